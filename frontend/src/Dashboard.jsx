@@ -4,13 +4,29 @@ import { OrbitControls, useGLTF, Environment, useAnimations, ContactShadows } fr
 import { useNavigate } from 'react-router-dom';
 import axios from 'axios';
 
+/**
+ * [3D 모델 주소]
+ * 서버가 알려주는 내용 해시 주소(/models/v/...)로 불러오면 브라우저가 영구 캐시합니다.
+ * 목록을 받지 못하면 기존 주소(/models/...)를 사용합니다.
+ */
+let modelUrls = null;
+const modelUrlsPromise = axios.get('/api/assets/models')
+  .then(response => { modelUrls = response.data; })
+  .catch(() => { modelUrls = {}; });
+
+function useModelUrl(fileName) {
+  // 목록을 받기 전에는 Suspense가 기다립니다. (해시 없는 주소로 한 번 더 받지 않도록)
+  if (modelUrls === null) throw modelUrlsPromise;
+  return modelUrls[fileName] || `/models/${fileName}`;
+}
+
 /**
  * [AuraModel 컴포넌트]
  * 역할: 시스템 상태(200/500)에 따라 모델 파일과 애니메이션을 교체합니다.
  */
 function AuraModel({ status }) {
   const group = useRef();
-  const modelPath = status === 200 ? '/models/idle.glb' : '/models/alert.glb';
+  const modelPath = useModelUrl(status === 200 ? 'idle.glb' : 'alert.glb');
   const { scene, animations } = useGLTF(modelPath);
   const { actions } = useAnimations(animations, group);
 
@@ -4,8 +4,18 @@
  */
 import React from 'react'
 import ReactDOM from 'react-dom/client'
+import axios from 'axios'
 import App from './App.jsx'
 
+// 로그인 토큰이 있으면 모든 API 요청에 실어 보냅니다. (서버는 토큰의 사용자 기준으로 프로젝트를 나눠 보여줌)
+axios.interceptors.request.use((config) => {
+  const token = localStorage.getItem('token');
+  if (token) {
+    config.headers.Authorization = `Bearer ${token}`;
+  }
+  return config;
+});
+
 // StrictMode는 개발 중 잠재적인 문제를 체크해줍니다.
 ReactDOM.createRoot(document.getElementById('root')).render(
   <React.StrictMode>
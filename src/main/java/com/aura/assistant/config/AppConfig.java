@@ -2,15 +2,18 @@ package com.aura.assistant.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * AppConfig 클래스
- * 가상 스레드 기반의 스케줄러를 설정합니다.
+ * 가상 스레드 기반의 스케줄러와 실행기를 설정합니다.
  */
 @Configuration
 public class AppConfig {
@@ -30,4 +33,33 @@ public class AppConfig {
         // 2. 생성한 가상 스레드 실행기를 스프링의 스케줄러 구조에 입힙니다.
         return new ConcurrentTaskScheduler(virtualWorker);
     }
-}
\ No newline at end of file
+
+    /**
+     * Spring MVC 비동기 요청(StreamingResponseBody 등)을 처리하는 실행기
+     * 아래 ExecutorService 빈들이 있으면 스프링 부트가 기본 applicationTaskExecutor를 만들지 않아,
+     * MVC가 플랫폼 스레드를 매번 새로 만드는 실행기로 돌아갑니다. 같은 이름으로 직접 등록해 가상 스레드를 쓰게 합니다.
+     */
+    @Bean(name = "applicationTaskExecutor")
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("Aura-Async-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    /**
+     * 실제 상태 체크(접속, DB 저장)를 수행하는 실행기
+     * 스케줄러 스레드는 하나뿐이므로, 체크 작업은 가상 스레드로 넘겨 서로 막히지 않게 합니다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService probeExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("Aura-Probe-", 0).factory());
+    }
+
+    /**
+     * Gemini 호출처럼 느린 작업을 요청 흐름 밖(백그라운드)에서 처리하는 실행기
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService aiExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("Aura-AI-", 0).factory());
+    }
+}
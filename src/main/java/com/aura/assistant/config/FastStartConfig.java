@@ -0,0 +1,37 @@
+package com.aura.assistant.config;
+
+import com.aura.assistant.global.diagnostics.FlightRecording;
+import com.aura.assistant.global.diagnostics.PinningMonitor;
+import com.aura.assistant.monitor.HistoryRunRecorder;
+import com.aura.assistant.monitor.MonitoringService;
+import com.aura.assistant.monitor.probe.NioProbeEngine;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.TaskScheduler;
+
+/**
+ * [FastStartConfig]
+ * 역할: 빠른 기동(fast) 프로필 전용 설정입니다.
+ * fast 프로필은 모든 빈을 지연 초기화(application-fast.yml)하지만,
+ * 상태 체크에 꼭 필요한 빈만은 기동 시점에 미리 만들어 첫 체크가 늦어지지 않게 합니다.
+ * 진단용 JFR 상시 기록과 pinning 감시도 다른 빈이 주입받지 않으므로, 지연되면 아예 시작되지 않아 함께 제외합니다.
+ * (Gemini 클라이언트, Thymeleaf 등은 처음 사용될 때 만들어집니다.)
+ */
+@Configuration
+@Profile("fast")
+public class FastStartConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter monitoringPipelineExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                TaskScheduler.class,
+                NioProbeEngine.class,
+                HistoryRunRecorder.class,
+                MonitoringService.class,
+                FlightRecording.class,
+                PinningMonitor.class
+        );
+    }
+}
@@ -1,5 +1,7 @@
 package com.aura.assistant.config;
 
+import com.aura.assistant.global.security.JwtAuthenticationFilter;
+import com.aura.assistant.global.security.JwtTokenProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -9,6 +11,7 @@ import org.springframework.security.config.annotation.web.configurers.HeadersCon
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 /**
  * [SecurityConfig]
@@ -32,18 +35,23 @@ public class SecurityConfig {
      * 메서드가 중복되지 않도록 하나로 합쳤습니다.
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtTokenProvider jwtTokenProvider) throws Exception {
         http
                 // API 통신 시 간섭을 막기 위해 CSRF 보안을 잠시 꺼둡니다.
                 .csrf(AbstractHttpConfigurer::disable)
 
                 .authorizeHttpRequests(auth -> auth
+                        // 진단 API(pinning, JFR 등)는 JVM 내부 정보를 담고 있으므로 관리자만 사용할 수 있습니다.
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         // 홈페이지, API, 리액트 정적 파일들은 로그인 없이도 볼 수 있게 허용합니다.
                         .requestMatchers("/", "/api/**", "/dist/**", "/models/**", "/css/**", "/js/**").permitAll()
                         // 그 외 모든 요청도 일단은 허용합니다. (개발 단계 편의상)
                         .anyRequest().permitAll()
                 )
 
+                // 요청의 JWT(Authorization: Bearer)로 로그인 사용자를 확인합니다. (사용자별 프로젝트 조회에 사용)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class)
+
                 // H2 콘솔이나 특정 프레임 구조를 사용할 수 있게 해주는 설정입니다.
                 .headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::disable));
 
@@ -1,29 +1,101 @@
 package com.aura.assistant.config;
 
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Pattern;
+
 /**
  * [역할] 정적 리소스 경로 설정
  * 리액트에서 빌드된 JS/CSS 파일과 public에 담긴 3D 모델 파일 경로를 매핑합니다.
+ * - /dist/**, /models/** : 해시 없는 주소. no-cache (Last-Modified로 재검증, 변경 없으면 304로 본문 없이 응답)
+ * - /dist/v/**           : 내용 해시가 붙은 번들 주소(예: assets/index-9b1e...04.js)만 제공. 1년 + immutable 캐시
+ *                          (Vite 빌드가 파일명을 고정하므로 해시는 서버가 붙이고, 주소는 WebController가 화면에 넣어줍니다)
+ * - /models/v/**         : 내용 해시가 붙은 주소(예: idle-3f2a...c9.glb)만 제공. 1년 + immutable 캐시
+ *                          (주소는 AssetController의 모델 목록 API가 알려줍니다)
+ * - 빌드 때 미리 만들어 둔 .br / .gz 파일이 있으면 브라우저가 지원하는 압축본을 그대로 전송
+ * - 큰 모델 파일은 Range 요청(부분 전송)을 그대로 지원합니다. (ResourceHttpRequestHandler 기본 기능)
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    // 내용 해시가 붙은 번들/모델 주소의 접두어
+    public static final String VERSIONED_DIST_PATH = "/dist/v/";
+    public static final String VERSIONED_MODELS_PATH = "/models/v/";
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePublic();
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // 1. 리액트 빌드 파일 (index.js, index.css 등) 매핑
+        // 1. 리액트 빌드 파일 (index.js, index.css 등) 매핑 - 내용 해시가 붙은 주소
+        registry.addResourceHandler(VERSIONED_DIST_PATH + "**")
+                .addResourceLocations("classpath:/static/dist/")
+                .setCacheControl(IMMUTABLE)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new ContentVersionRequiredResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+
+        // 리액트 빌드 파일 - 해시 없는 기존 주소
         registry.addResourceHandler("/dist/**")
-                .addResourceLocations("classpath:/static/dist/");
+                .addResourceLocations("classpath:/static/dist/")
+                .setCacheControl(REVALIDATE)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
 
-        // 2. 3D 모델 파일 (.glb) 매핑
+        // 2. 3D 모델 파일 (.glb) 매핑 - 내용 해시가 붙은 주소 (내용이 바뀌면 주소도 바뀌므로 영구 캐시해도 안전)
+        registry.addResourceHandler(VERSIONED_MODELS_PATH + "**")
+                .addResourceLocations("classpath:/static/dist/models/")
+                .setCacheControl(IMMUTABLE)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new ContentVersionRequiredResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+
+        // 3. 3D 모델 파일 (.glb) 매핑 - 해시 없는 기존 주소
         registry.addResourceHandler("/models/**")
-                .addResourceLocations("classpath:/static/dist/models/");
+                .addResourceLocations("classpath:/static/dist/models/")
+                .setCacheControl(REVALIDATE)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
 
-        // 3. 기존 CSS/JS 폴더 매핑
+        // 4. 기존 CSS/JS 폴더 매핑
         registry.addResourceHandler("/css/**", "/js/**")
                 .addResourceLocations("classpath:/static/css/", "classpath:/static/js/");
     }
 
+    /**
+     * 영구 캐시 경로에서 해시 없는 주소(예: /models/v/idle.glb, /dist/v/assets/index.js)는 찾지 않습니다.
+     * 그대로 두면 내용이 바뀌어도 주소가 같은 파일이 1년 동안 캐시될 수 있습니다.
+     */
+    private static final class ContentVersionRequiredResolver extends AbstractResourceResolver {
+
+        // VersionResourceResolver의 content 전략이 파일명에 붙이는 "-{MD5 해시}" 형식
+        private static final Pattern CONTENT_VERSIONED = Pattern.compile("-[0-9a-f]{32}\\.[^/]+$");
 
-}
\ No newline at end of file
+        @Override
+        protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+                                                   List<? extends Resource> locations, ResourceResolverChain chain) {
+            return CONTENT_VERSIONED.matcher(requestPath).find()
+                    ? chain.resolveResource(request, requestPath, locations)
+                    : null;
+        }
+
+        @Override
+        protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+                                                ResourceResolverChain chain) {
+            return chain.resolveUrlPath(resourceUrlPath, locations);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.aura.assistant.controller;
+
+import com.aura.assistant.config.WebConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * [AssetController]
+ * 역할: 프론트엔드가 3D 모델을 내용 해시가 붙은 주소로 불러올 수 있도록 주소 목록을 알려줍니다.
+ * 해시 주소는 영구 캐시되므로, 재방문 시 모델 파일을 다시 받지도 재검증하지도 않습니다.
+ */
+@RestController
+@RequestMapping("/api/assets")
+@RequiredArgsConstructor
+public class AssetController {
+
+    private final ResourceUrlProvider resourceUrlProvider;
+    private final ResourcePatternResolver resourcePatternResolver;
+
+    // 배포된 jar 안의 파일은 바뀌지 않으므로 한 번만 계산합니다.
+    private volatile Map<String, String> modelUrls;
+
+    /**
+     * 모델 파일명 → 해시 주소 (예: "idle.glb" → "/models/v/idle-3f2a...c9.glb")
+     */
+    @GetMapping("/models")
+    public ResponseEntity<Map<String, String>> models() throws IOException {
+        Map<String, String> urls = modelUrls;
+        if (urls == null) {
+            urls = new TreeMap<>();
+            for (Resource model : resourcePatternResolver.getResources("classpath:/static/dist/models/*.glb")) {
+                String fileName = model.getFilename();
+                String versioned = resourceUrlProvider.getForLookupPath(WebConfig.VERSIONED_MODELS_PATH + fileName);
+                if (versioned != null) urls.put(fileName, versioned);
+            }
+            modelUrls = urls = Map.copyOf(urls);
+        }
+        // 목록 자체는 배포 때마다 바뀔 수 있으므로 매번 재검증합니다.
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(urls);
+    }
+}
@@ -1,8 +1,12 @@
 package com.aura.assistant.controller;
 
+import com.aura.assistant.config.WebConfig;
 import com.aura.assistant.domain.TargetProject;
 import com.aura.assistant.domain.TargetProjectRepository;
+import com.aura.assistant.domain.user.User;
+import com.aura.assistant.global.security.CurrentUser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -10,6 +14,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import java.util.Optional;
 
 /**
  * WebController 클래스
@@ -20,31 +27,46 @@ import org.springframework.web.bind.annotation.ResponseBody;
 public class WebController {
 
     private final TargetProjectRepository targetProjectRepository;
+    private final CurrentUser currentUser;
+    private final ResourceUrlProvider resourceUrlProvider;
+
+    // 리액트 번들 진입 파일 (vite.config.js에서 파일명을 고정)
+    private static final String APP_SCRIPT = "assets/index.js";
 
     /**
      * 메인 대시보드 화면 호출
-     * DB에 저장된 프로젝트 목록을 가지고 dashboard.html 화면으로 이동합니다.
+     * 프로젝트 목록은 화면이 로그인 후 /api/projects/list로 본인 것만 불러오므로, 여기서는 DB를 조회하지 않습니다.
+     * 리액트 번들은 내용 해시가 붙은 주소로 넣어, 브라우저가 재방문 때 다시 받지도 재검증하지도 않게 합니다.
      */
     @GetMapping("/")
     public String dashboard(Model model) {
-        // DB에서 모든 감시 대상 프로젝트를 가져와 화면에 전달합니다.
-        model.addAttribute("projects", targetProjectRepository.findAll());
+        String appScript = resourceUrlProvider.getForLookupPath(WebConfig.VERSIONED_DIST_PATH + APP_SCRIPT);
+        model.addAttribute("appScript", appScript != null ? appScript : "/dist/" + APP_SCRIPT);
 
         // src/main/resources/templates/dashboard.html 파일을 찾아서 보여줍니다.
         return "dashboard";
     }
 
     /**
-     * 프로젝트 등록 API
+     * 프로젝트 등록 API (등록한 로그인 사용자가 소유자가 됩니다)
      * @param name 프로젝트 이름
      * @param url 감시할 URL
      */
     @PostMapping("/api/projects")
     @ResponseBody
     public ResponseEntity<String> addProject(@RequestParam("name") String name, @RequestParam("url") String url) {
+        Optional<User> owner = currentUser.get();
+        if (owner.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+        }
+        if (targetProjectRepository.existsByOwnerIdAndUrl(owner.get().getId(), url)) {
+            return ResponseEntity.badRequest().body("이미 등록된 모니터링 주소입니다.");
+        }
+
         TargetProject project = new TargetProject();
         project.setName(name);
         project.setUrl(url);
+        project.setOwner(owner.get());
         project.setLastStatus(0); // 초기 상태는 0
 
         targetProjectRepository.save(project);
@@ -6,7 +6,9 @@ import java.time.LocalDateTime;
 
 /**
  * MonitoringHistory 엔티티
- * 프로젝트의 상태 체크 이력을 개별적으로 저장하는 클래스입니다.
+ * 프로젝트의 상태 '구간(run)'을 저장하는 클래스입니다.
+ * 체크할 때마다 행을 쌓지 않고, 상태가 바뀔 때만 새 행을 만들며
+ * 같은 상태가 이어지는 동안은 체크 횟수와 마지막 확인 시간만 갱신합니다.
  */
 @Entity
 @Getter
@@ -27,9 +29,15 @@ public class MonitoringHistory {
     // 체크 당시의 응답 코드 (예: 200, 500)
     private int statusCode;
 
-    // 체크된 시간
+    // 이 상태가 처음 확인된 시간 (구간 시작 시각)
     private LocalDateTime checkedAt;
 
+    // 이 상태로 확인된 체크 횟수 (하트비트 카운터)
+    private long checkCount;
+
+    // 이 상태가 마지막으로 확인된 시간
+    private LocalDateTime lastSeenAt;
+
     // 추가: 기획안 3, 5번 핵심 기능 - Gemini AI가 생성한 한 줄 조치 가이드
     @Column(length = 500)
     private String aiGuide;
@@ -1,6 +1,12 @@
 package com.aura.assistant.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -11,4 +17,16 @@ public interface MonitoringHistoryRepository extends JpaRepository<MonitoringHis
 
     // 프로젝트 ID로 찾아서, 체크 시간(checkedAt) 기준 내림차순 정렬 후 첫 번째 데이터만 가져오기
     Optional<MonitoringHistory> findFirstByTargetProjectIdOrderByCheckedAtDesc(Long projectId);
+
+    /**
+     * 진행 중인 상태 구간에 메모리에 모아둔 체크 횟수와 마지막 확인 시간을 반영합니다.
+     * 엔티티를 다시 읽지 않고 UPDATE 한 번으로 처리합니다.
+     * 점검 시작 때의 반영은 백그라운드에서 늦게 도착할 수 있으므로, 마지막 확인 시간은 뒤로 돌리지 않습니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("update MonitoringHistory h set h.checkCount = h.checkCount + :checks, " +
+            "h.lastSeenAt = case when h.lastSeenAt is null or h.lastSeenAt < :lastSeenAt then :lastSeenAt else h.lastSeenAt end " +
+            "where h.id = :id")
+    int extendRun(@Param("id") Long id, @Param("checks") long checks, @Param("lastSeenAt") LocalDateTime lastSeenAt);
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.aura.assistant.domain;
+
+/**
+ * [ProbeType 열거형]
+ * 감시 대상에 어떤 방식으로 상태 체크를 할지 정의합니다.
+ * TCP/TLS는 HTTP 요청 없이 연결만 확인하므로 훨씬 가볍습니다.
+ */
+public enum ProbeType {
+    TCP,        // 포트가 연결을 받는지만 확인
+    TLS,        // TLS 핸드셰이크 성공 여부 + 인증서 만료일 수집
+    HTTP_HEAD,  // 본문 없이 응답 코드만 확인
+    HTTP_GET    // 기존 방식 (전체 GET 요청)
+}
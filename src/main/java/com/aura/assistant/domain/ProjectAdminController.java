@@ -0,0 +1,71 @@
+package com.aura.assistant.domain;
+
+import com.aura.assistant.domain.user.User;
+import com.aura.assistant.domain.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * [ProjectAdminController]
+ * 역할: 소유자 도입 전에 등록되어 owner_id가 비어 있는 프로젝트를 관리자가 확인하고 사용자에게 넘기는 API입니다.
+ * 이런 프로젝트는 일반 사용자의 목록/조회에 나타나지 않으므로, 관리자가 주인을 정해 주어야 다시 보입니다.
+ * (/api/admin/** 는 ADMIN 권한 필요)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/projects")
+@RequiredArgsConstructor
+public class ProjectAdminController {
+
+    private final TargetProjectRepository repository;
+    private final UserRepository userRepository;
+
+    /**
+     * 소유자가 없는 프로젝트 목록
+     */
+    @GetMapping("/unowned")
+    public ResponseEntity<List<TargetProject>> unowned() {
+        return ResponseEntity.ok(repository.findAllByOwnerIsNull());
+    }
+
+    /**
+     * 소유자가 없는 프로젝트를 지정한 사용자에게 넘깁니다.
+     * 그 사용자가 이미 같은 URL을 등록해 두었다면 (owner_id, url) 중복이 되므로 옮기지 않고 skipped로 돌려줍니다.
+     */
+    @PostMapping("/unowned/assign")
+    public ResponseEntity<?> assignUnowned(@RequestParam("ownerEmail") String ownerEmail) {
+        Optional<User> owner = userRepository.findByEmail(ownerEmail);
+        if (owner.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("message", "사용자를 찾을 수 없습니다."));
+        }
+
+        Set<String> ownedUrls = repository.findAllByOwnerId(owner.get().getId()).stream()
+                .map(TargetProject::getUrl)
+                .collect(Collectors.toSet());
+
+        List<Long> toAssign = new ArrayList<>();
+        List<Long> skipped = new ArrayList<>();
+        for (TargetProject project : repository.findAllByOwnerIsNull()) {
+            if (ownedUrls.add(project.getUrl())) {
+                toAssign.add(project.getId());
+            } else {
+                skipped.add(project.getId());
+            }
+        }
+
+        int assigned = toAssign.isEmpty() ? 0 : repository.assignUnowned(toAssign, owner.get());
+        log.info("소유자 없는 프로젝트 {}개를 {}에게 넘김 (중복 URL로 건너뜀: {})", assigned, ownerEmail, skipped);
+        return ResponseEntity.ok(Map.of("assigned", assigned, "skipped", skipped));
+    }
+}
@@ -1,5 +1,7 @@
 package com.aura.assistant.domain;
 
+import com.aura.assistant.domain.user.User;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -12,6 +14,13 @@ import java.time.LocalDateTime;
  * 감시할 서버의 이름과 주소 정보를 저장하는 클래스입니다.
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_target_project_owner", columnList = "owner_id"),
+        @Index(name = "idx_target_project_tag", columnList = "tag")
+}, uniqueConstraints = {
+        // 같은 사용자가 같은 URL을 두 번 등록하는 것만 막습니다. (다른 사용자는 같은 URL을 각자 감시할 수 있음)
+        @UniqueConstraint(name = "uk_target_project_owner_url", columnNames = {"owner_id", "url"})
+})
 @Getter
 @Setter // Lombok이 자동으로 유효한 Setter를 생성합니다.
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
@@ -24,15 +33,52 @@ public class TargetProject {
     @Column(nullable = false)
     private String name; // 프로젝트 별칭 (예: 나의 웹사이트)
 
-    // [수정] unique = true를 추가하여 동일한 URL이 중복 저장되는 것을 DB 레벨에서 막습니다.
-    @Column(nullable = false, unique = true)
+    // 중복 여부는 소유자 단위로 검사합니다. (uk_target_project_owner_url)
+    @Column(nullable = false)
     private String url;  // 감시할 주소 (예: https://www.google.com)
 
+    // 프로젝트를 등록한 사용자. 목록은 이 사용자 기준으로만 조회합니다. (owner_id 인덱스)
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "owner_id")
+    private User owner;
+
+    // 묶음 제어용 태그 (예: payment, staging). 태그 단위로 한 번에 시작/중지/점검할 수 있습니다.
+    @Column(length = 50)
+    private String tag;
+
     private int lastStatus; // 마지막 HTTP 응답 코드
 
     // 상태 체크 시간을 기록하기 위해 추가하면 좋습니다.
     private LocalDateTime lastCheckTime;
 
+    // 체크 방식 (TCP 연결, TLS 핸드셰이크, HTTP HEAD/GET). 값이 없으면 HTTP_GET으로 동작합니다.
+    @Enumerated(EnumType.STRING)
+    private ProbeType probeType = ProbeType.HTTP_GET;
+
+    // 체크 주기(초). 값이 없으면 기본 5분(300초)으로 동작합니다.
+    private Integer checkIntervalSeconds;
+
+    // TLS 체크 시 수집한 서버 인증서 만료 시각
+    private LocalDateTime certExpiresAt;
+
+    // [콘텐츠 검사] HTTP_GET 응답 본문의 앞부분(contentMaxKb)만 스트리밍으로 검사합니다. 값이 없으면 검사하지 않습니다.
+    private String contentKeyword; // 본문에 반드시 있어야 하는 문자열
+
+    @Column(length = 500)
+    private String contentRegex;   // 본문에서 찾아야 하는 정규식
+
+    private String jsonAssertion;  // JSON 필드 검사 (예: status=UP, checks.0.state=ok, data.version)
+
+    private Integer contentMaxKb;  // 검사할 최대 크기(KB). 값이 없으면 기본 64KB
+
+    private Boolean detectContentChange; // 본문 해시를 비교해 내용 변경을 감지할지 여부
+
+    @Column(length = 64)
+    private String lastBodyHash;   // 마지막으로 확인한 본문 해시 (SHA-256)
+
+    private LocalDateTime contentChangedAt; // 본문 내용이 마지막으로 바뀐 시각
+
     // 새로운 프로젝트를 등록할 때 사용하는 생성자
     public TargetProject(String name, String url) {
         this.name = name;
@@ -45,4 +91,20 @@ public class TargetProject {
         this.lastCheckTime = LocalDateTime.now();
     }
 
+    /**
+     * 본문 해시를 갱신하고, 이전 해시와 달라졌는지(내용 변경) 여부를 돌려줍니다.
+     * 처음 해시를 기록할 때는 변경으로 보지 않습니다.
+     */
+    public boolean updateBodyHash(String bodyHash) {
+        boolean changed = this.lastBodyHash != null && !this.lastBodyHash.equals(bodyHash);
+        if (changed) this.contentChangedAt = LocalDateTime.now();
+        this.lastBodyHash = bodyHash;
+        return changed;
+    }
+
+    // 인증서 만료 시각 업데이트 메서드 (TLS 체크 결과가 있을 때만 호출)
+    public void updateCertExpiry(LocalDateTime certExpiresAt) {
+        this.certExpiresAt = certExpiresAt;
+    }
+
 }
\ No newline at end of file
@@ -1,10 +1,19 @@
 package com.aura.assistant.domain;
 
+import com.aura.assistant.domain.user.User;
+import com.aura.assistant.global.security.CurrentUser;
+import com.aura.assistant.monitor.MonitoringService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * [TargetProjectController]
@@ -15,29 +24,48 @@ import java.util.Map;
 @CrossOrigin(origins = "http://localhost:5173") // 리액트 포트 허용
 public class TargetProjectController {
 
+    // 목록 한 페이지의 최대 크기 (기본 100)
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final TargetProjectRepository repository;
+    private final CurrentUser currentUser;
+    private final MonitoringService monitoringService;
 
     // 생성자 주입 방식 (의존성 주입)
-    public TargetProjectController(TargetProjectRepository repository) {
+    public TargetProjectController(TargetProjectRepository repository, CurrentUser currentUser,
+                                   MonitoringService monitoringService) {
         this.repository = repository;
+        this.currentUser = currentUser;
+        this.monitoringService = monitoringService;
     }
 
     /**
      * [1. 프로젝트 등록]
      * 사용자가 입력한 이름과 URL을 받아 중복 체크 후 DB에 저장합니다.
+     * 등록한 사용자가 프로젝트의 소유자가 됩니다.
+     * 요청 본문은 ProjectRequest로 받으므로, id나 상태 값을 보내도 기존 프로젝트를 덮어쓸 수 없습니다.
      */
     @PostMapping("/add")
-    public ResponseEntity<?> addProject(@RequestBody TargetProject project) {
+    public ResponseEntity<?> addProject(@RequestBody ProjectRequest request) {
+        Optional<User> owner = currentUser.get();
+        if (owner.isEmpty()) return unauthorized();
 
-        // [중복 체크] Repository에 추가한 existsByUrl 메서드를 활용합니다.
-        if (repository.existsByUrl(project.getUrl())) {
+        // [정규식 검사] 잘못된 정규식이 저장되면 체크할 때마다 실패해 장애처럼 보이므로, 등록할 때 거릅니다.
+        String regexError = request.contentRegexError();
+        if (regexError != null) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("message", "콘텐츠 정규식이 올바르지 않습니다: " + regexError));
+        }
+
+        // [중복 체크] 본인이 이미 등록한 주소인지만 확인합니다.
+        if (repository.existsByOwnerIdAndUrl(owner.get().getId(), request.url())) {
             // 이미 존재하면 400 Bad Request 에러와 메시지를 보냅니다.
             return ResponseEntity.badRequest()
                     .body(Map.of("message", "이미 등록된 모니터링 주소입니다."));
         }
 
         // 새 프로젝트 저장
-        TargetProject savedProject = repository.save(project);
+        TargetProject savedProject = repository.save(request.toEntity(owner.get()));
 
         // 성공 시 저장된 객체 반환
         return ResponseEntity.ok(savedProject);
@@ -45,20 +73,82 @@ public class TargetProjectController {
 
     /**
      * [2. 프로젝트 목록 조회]
-     * 대시보드 화면에 뿌려줄 전체 모니터링 리스트를 가져옵니다.
+     * 대시보드 화면에 뿌려줄 로그인 사용자의 모니터링 리스트를 페이지 단위로 가져옵니다.
+     * 응답 본문은 기존과 같은 배열이며, 다음 페이지가 있으면 X-Has-Next: true 헤더를 붙입니다.
      */
     @GetMapping("/list")
-    public List<TargetProject> getAllProjects() {
-        return repository.findAll();
+    public ResponseEntity<?> getMyProjects(
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "100") int size) {
+        Optional<User> owner = currentUser.get();
+        if (owner.isEmpty()) return unauthorized();
+
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.clamp(size, 1, MAX_PAGE_SIZE), Sort.by("id"));
+        Slice<TargetProject> projects = repository.findByOwnerId(owner.get().getId(), pageRequest);
+        return ResponseEntity.ok()
+                .header("X-Has-Next", String.valueOf(projects.hasNext()))
+                .body(projects.getContent());
     }
 
     /**
      * [3. 프로젝트 삭제]
-     * 모니터링을 중단하고 싶은 프로젝트를 삭제합니다.
+     * 모니터링을 중단하고 싶은 프로젝트를 삭제합니다. (본인 소유만 삭제 가능)
+     * 감시 중이면 먼저 멈춰, 삭제된 프로젝트의 체크와 메모리 기록이 남지 않게 합니다.
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteProject(@PathVariable Long id) {
-        repository.deleteById(id);
+        Optional<User> owner = currentUser.get();
+        if (owner.isEmpty()) return unauthorized();
+
+        Optional<TargetProject> project = repository.findByIdAndOwnerId(id, owner.get().getId());
+        if (project.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("message", "프로젝트를 찾을 수 없습니다."));
+        }
+        monitoringService.stopMonitoring(id);
+        repository.delete(project.get());
         return ResponseEntity.ok(Map.of("message", "삭제되었습니다."));
     }
+
+    private ResponseEntity<Map<String, String>> unauthorized() {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(Map.of("message", "로그인이 필요합니다."));
+    }
+
+    /**
+     * 프로젝트 등록 요청 (사용자가 정할 수 있는 설정만 받습니다. id, 소유자, 체크 결과는 서버가 채움)
+     */
+    public record ProjectRequest(String name, String url, String tag, ProbeType probeType,
+                                 Integer checkIntervalSeconds, String contentKeyword, String contentRegex,
+                                 String jsonAssertion, Integer contentMaxKb, Boolean detectContentChange) {
+
+        /**
+         * contentRegex가 컴파일되지 않으면 그 이유를, 없거나 올바르면 null을 돌려줍니다.
+         */
+        String contentRegexError() {
+            if (contentRegex == null || contentRegex.isBlank()) return null;
+            try {
+                Pattern.compile(contentRegex);
+                return null;
+            } catch (PatternSyntaxException e) {
+                return e.getDescription();
+            }
+        }
+
+        TargetProject toEntity(User owner) {
+            TargetProject project = new TargetProject();
+            project.setName(name);
+            project.setUrl(url);
+            project.setOwner(owner);
+            project.setTag(tag);
+            if (probeType != null) project.setProbeType(probeType);
+            project.setCheckIntervalSeconds(checkIntervalSeconds);
+            project.setContentKeyword(contentKeyword);
+            project.setContentRegex(contentRegex);
+            project.setJsonAssertion(jsonAssertion);
+            project.setContentMaxKb(contentMaxKb);
+            project.setDetectContentChange(detectContentChange);
+            return project;
+        }
+    }
 }
\ No newline at end of file
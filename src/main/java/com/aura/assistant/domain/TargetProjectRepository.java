@@ -1,7 +1,20 @@
 package com.aura.assistant.domain;
 
+import com.aura.assistant.domain.user.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * TargetProjectRepository
@@ -11,8 +24,86 @@ import org.springframework.stereotype.Repository;
 public interface TargetProjectRepository extends JpaRepository<TargetProject, Long> {
 
     /**
-     * URL 중복 여부를 확인하는 메서드
-     * 이 메서드 이름만 선언하면 Spring Data JPA가 자동으로 "SELECT count(*) > 0 FROM target_project WHERE url = ?" 쿼리를 실행
+     * 사용자 한 명 안에서의 URL 중복 여부를 확인하는 메서드
+     * 다른 사용자의 등록 여부는 보지 않으므로, 누가 어떤 주소를 감시하는지 응답으로 드러나지 않습니다.
+     */
+    boolean existsByOwnerIdAndUrl(Long ownerId, String url);
+
+    /**
+     * 사용자 한 명의 프로젝트를 페이지 단위로 조회합니다. (owner_id 인덱스 사용)
+     * 전체 개수를 세는 count 쿼리 없이 다음 페이지 존재 여부만 확인합니다.
+     */
+    Slice<TargetProject> findByOwnerId(Long ownerId, Pageable pageable);
+
+    /**
+     * 사용자 소유의 프로젝트 한 건 (다른 사용자의 프로젝트는 조회되지 않음)
+     */
+    Optional<TargetProject> findByIdAndOwnerId(Long id, Long ownerId);
+
+    /**
+     * 사용자 소유 프로젝트의 id만 조회합니다. (엔티티를 읽지 않음)
+     */
+    @Query("select p.id from TargetProject p where p.owner.id = :ownerId")
+    List<Long> findIdsByOwnerId(@Param("ownerId") Long ownerId);
+
+    /*
+     * 묶음 제어(시작/중지/점검)용 조회: 대상이 몇 개든 쿼리 한 번으로 가져옵니다.
+     */
+    List<TargetProject> findAllByTag(String tag);
+
+    List<TargetProject> findAllByOwnerId(Long ownerId);
+
+    List<TargetProject> findAllByOwnerIdAndTag(Long ownerId, String tag);
+
+    List<TargetProject> findAllByIdInAndOwnerId(Collection<Long> ids, Long ownerId);
+
+    /*
+     * 소유자 도입 전에 등록되어 owner_id가 비어 있는 프로젝트 (관리자만 보고 옮길 수 있음)
+     */
+    List<TargetProject> findAllByOwnerIsNull();
+
+    /**
+     * 소유자가 없는 프로젝트만 지정한 사용자에게 넘깁니다. (이미 소유자가 생긴 행은 건드리지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("update TargetProject p set p.owner = :owner where p.id in :ids and p.owner is null")
+    int assignUnowned(@Param("ids") Collection<Long> ids, @Param("owner") User owner);
+
+    /*
+     * 상태 체크 결과 반영: 엔티티를 다시 읽거나 병합(merge)하지 않고, 바뀐 컬럼만 UPDATE 합니다.
+     * (체크 중에 사용자가 이름/URL을 수정해도 덮어쓰지 않음)
+     */
+
+    /**
+     * 상태가 바뀌었을 때만 호출합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("update TargetProject p set p.lastStatus = :status, p.lastCheckTime = :checkedAt where p.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") int status, @Param("checkedAt") LocalDateTime checkedAt);
+
+    /**
+     * 상태가 그대로인 동안의 마지막 체크 시각은 이력 반영 주기에 맞춰 한 번에 기록합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("update TargetProject p set p.lastCheckTime = :checkedAt where p.id = :id " +
+            "and (p.lastCheckTime is null or p.lastCheckTime < :checkedAt)")
+    int updateLastCheckTime(@Param("id") Long id, @Param("checkedAt") LocalDateTime checkedAt);
+
+    @Transactional
+    @Modifying
+    @Query("update TargetProject p set p.certExpiresAt = :certExpiresAt where p.id = :id")
+    int updateCertExpiry(@Param("id") Long id, @Param("certExpiresAt") LocalDateTime certExpiresAt);
+
+    /**
+     * contentChangedAt이 null이면(최초 기록) 기존 값을 유지합니다.
      */
-    boolean existsByUrl(String url);
-}
\ No newline at end of file
+    @Transactional
+    @Modifying
+    @Query("update TargetProject p set p.lastBodyHash = :bodyHash, " +
+            "p.contentChangedAt = coalesce(:contentChangedAt, p.contentChangedAt) where p.id = :id")
+    int updateBodyHash(@Param("id") Long id, @Param("bodyHash") String bodyHash,
+                       @Param("contentChangedAt") LocalDateTime contentChangedAt);
+}
@@ -1,6 +1,7 @@
 package com.aura.assistant.domain.user;
 
 import com.aura.assistant.global.security.JwtTokenProvider;
+import com.aura.assistant.monitor.GreetingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,6 +20,7 @@ public class UserController {
 
     private final UserService userService;
     private final JwtTokenProvider jwtTokenProvider; // JWT 토큰 생성기 주입
+    private final GreetingService greetingService; // 로그인 시 환영 인사 미리 생성
 
     /**
      * [회원가입]
@@ -49,7 +51,10 @@ public class UserController {
         // 2. JWT 토큰 생성
         String token = jwtTokenProvider.createToken(user.getEmail(), user.getRole().name());
 
-        // 3. 프론트엔드에 전달할 응답 데이터 구성
+        // 3. 대시보드로 이동하는 동안 환영 인사를 미리 만들어 둡니다. (응답은 기다리지 않음)
+        greetingService.prefetch(user.getId(), user.getName());
+
+        // 4. 프론트엔드에 전달할 응답 데이터 구성
         Map<String, Object> responseData = new HashMap<>();
         responseData.put("token", token);
         responseData.put("name", user.getName());
@@ -0,0 +1,69 @@
+package com.aura.assistant.global.diagnostics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * [DiagnosticsController]
+ * 역할: 운영 중 성능 문제를 진단하기 위한 관리자용 API를 제공합니다.
+ */
+@RestController
+@RequestMapping("/api/admin/diagnostics")
+@RequiredArgsConstructor
+public class DiagnosticsController {
+
+    // pinning 감시는 설정(aura.diagnostics.pinning.enabled)이 켜진 경우에만 존재합니다.
+    private final ObjectProvider<PinningMonitor> pinningMonitor;
+
+    // JFR 상시 기록도 설정(aura.diagnostics.jfr.enabled)이 켜진 경우에만 존재합니다.
+    private final ObjectProvider<FlightRecording> flightRecording;
+
+    /**
+     * 가상 스레드 pinning 집계 결과를 반환합니다.
+     */
+    @GetMapping("/pinning")
+    public ResponseEntity<?> pinning() {
+        PinningMonitor monitor = pinningMonitor.getIfAvailable();
+        if (monitor == null) {
+            return ResponseEntity.ok(Map.of(
+                    "enabled", false,
+                    "message", "pinning 감시가 꺼져 있습니다. (aura.diagnostics.pinning.enabled=true 또는 prod 프로필)"));
+        }
+        return ResponseEntity.ok(monitor.report());
+    }
+
+    /**
+     * 최근 N분(기본 10분)의 JFR 기록을 .jfr 파일로 내려받습니다.
+     * JDK Mission Control 또는 `jfr print --events aura.Probe` 등으로 분석합니다.
+     */
+    @GetMapping("/jfr")
+    public ResponseEntity<?> jfr(@RequestParam(value = "minutes", defaultValue = "10") long minutes) {
+        FlightRecording recording = flightRecording.getIfAvailable();
+        if (recording == null) {
+            return ResponseEntity.ok(Map.of(
+                    "enabled", false,
+                    "message", "JFR 상시 기록이 꺼져 있습니다. (aura.diagnostics.jfr.enabled=true 또는 prod 프로필)"));
+        }
+
+        Duration last = Duration.ofMinutes(Math.clamp(minutes, 1, recording.getMaxAgeMinutes()));
+        String fileName = "aura-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".jfr";
+        StreamingResponseBody body = out -> recording.dump(last, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+}
@@ -0,0 +1,90 @@
+package com.aura.assistant.global.diagnostics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+
+/**
+ * [FlightRecording]
+ * 역할: 애플리케이션이 떠 있는 동안 JFR을 계속 기록하고, 필요할 때 최근 N분만 잘라 내려받게 해줍니다.
+ * - JDK 기본(default) 설정을 사용하므로 오버헤드가 1% 안팎으로 운영 중에도 켜둘 수 있습니다.
+ * - 단, 환경 변수/시스템 프로퍼티/JVM 인자/프로세스 목록 이벤트는 끕니다. (DB 비밀번호, API 키 등이 기록 파일에 남지 않게)
+ * - 최대 보관 시간/크기를 넘는 오래된 데이터는 JFR이 알아서 지웁니다.
+ * - Aura 커스텀 이벤트(aura.Probe, aura.GeminiRequest 등)도 함께 기록됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "aura.diagnostics.jfr.enabled", havingValue = "true")
+public class FlightRecording {
+
+    @Getter
+    @Value("${aura.diagnostics.jfr.max-age-minutes:60}")
+    private long maxAgeMinutes;
+
+    @Value("${aura.diagnostics.jfr.max-size-mb:200}")
+    private long maxSizeMb;
+
+    // 비밀 값(환경 변수, -D 옵션, 명령줄)을 담을 수 있어 기록하지 않는 이벤트
+    private static final List<String> SENSITIVE_EVENTS = List.of(
+            "jdk.InitialEnvironmentVariable",
+            "jdk.InitialSystemProperty",
+            "jdk.JVMInformation",
+            "jdk.SystemProcess");
+
+    private Recording recording;
+
+    @PostConstruct
+    void start() throws Exception {
+        recording = new Recording(settings());
+        recording.setName("aura-continuous");
+        recording.setToDisk(true);
+        recording.setMaxAge(Duration.ofMinutes(maxAgeMinutes));
+        recording.setMaxSize(maxSizeMb * 1024 * 1024);
+        recording.start();
+        log.info("JFR 상시 기록 시작 (최대 {}분 / {}MB 보관)", maxAgeMinutes, maxSizeMb);
+    }
+
+    /**
+     * JDK default 설정에서 민감한 이벤트만 끈 설정
+     */
+    static Map<String, String> settings() throws Exception {
+        Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+        for (String event : SENSITIVE_EVENTS) {
+            settings.put(event + "#enabled", "false");
+        }
+        return settings;
+    }
+
+    /**
+     * 최근 구간의 기록을 .jfr 형식으로 출력합니다.
+     * 스냅샷을 떠서 아직 디스크에 정리되지 않은 최신 데이터까지 포함합니다. (해당 구간에 기록이 없으면 아무것도 쓰지 않음)
+     */
+    public void dump(Duration last, OutputStream out) throws IOException {
+        Instant end = Instant.now();
+        try (Recording snapshot = FlightRecorder.getFlightRecorder().takeSnapshot();
+             InputStream data = snapshot.getStream(end.minus(last), end)) {
+            if (data != null) data.transferTo(out);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (recording != null) recording.close();
+    }
+}
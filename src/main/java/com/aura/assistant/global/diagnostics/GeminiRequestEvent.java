@@ -0,0 +1,30 @@
+package com.aura.assistant.global.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * [GeminiRequestEvent]
+ * Gemini API 호출 한 건의 JFR 이벤트입니다. 호출이 몰리거나 느려진 시점을 사후에 확인할 수 있습니다.
+ */
+@Name("aura.GeminiRequest")
+@Label("Gemini Request")
+@Category({"Aura", "AI"})
+@Description("Gemini API 호출")
+public class GeminiRequestEvent extends Event {
+
+    @Label("Prompt Length")
+    public int promptLength;
+
+    @Label("Response Length")
+    public int responseLength;
+
+    @Label("Success")
+    public boolean success;
+
+    @Label("Error")
+    public String error;
+}
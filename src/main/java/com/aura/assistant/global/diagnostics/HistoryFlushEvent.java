@@ -0,0 +1,29 @@
+package com.aura.assistant.global.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * [HistoryFlushEvent]
+ * 메모리에 모아 둔 체크 횟수를 DB에 반영한 한 번의 작업을 남기는 JFR 이벤트입니다.
+ */
+@Name("aura.HistoryFlush")
+@Label("History Flush")
+@Category({"Aura", "Persistence"})
+@Description("상태 구간 체크 횟수 일괄 반영")
+@StackTrace(false)
+public class HistoryFlushEvent extends Event {
+
+    @Label("Runs Updated")
+    public int runs;
+
+    @Label("Checks Written")
+    public long checks;
+
+    @Label("Failed Runs")
+    public int failures;
+}
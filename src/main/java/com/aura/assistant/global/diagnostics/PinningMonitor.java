@@ -0,0 +1,149 @@
+package com.aura.assistant.global.diagnostics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * [PinningMonitor]
+ * 역할: 가상 스레드가 캐리어 스레드에 고정(pinning)되는 상황을 감지하고 집계합니다.
+ * JFR의 jdk.VirtualThreadPinned 이벤트(synchronized 블록 안에서의 대기, 네이티브 호출 등)를
+ * 실행 중에 스트리밍으로 받아, 발생 위치(스택 상단)별로 횟수와 시간을 모아둡니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "aura.diagnostics.pinning.enabled", havingValue = "true")
+public class PinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    // 집계 키로 사용할 스택 프레임 수
+    private static final int SITE_FRAMES = 5;
+
+    // 메모리 보호: 집계할 최대 위치 수 / 보관할 최근 이벤트 수
+    private static final int MAX_SITES = 500;
+    private static final int MAX_RECENT = 50;
+
+    // 이 시간 이상 고정된 경우만 이벤트로 기록합니다.
+    @Value("${aura.diagnostics.pinning.threshold-millis:20}")
+    private long thresholdMillis;
+
+    private final Map<String, PinningSite> sites = new ConcurrentHashMap<>();
+    private final Deque<PinnedEvent> recent = new ArrayDeque<>();
+    private final LongAdder totalEvents = new LongAdder();
+
+    private RecordingStream stream;
+
+    @PostConstruct
+    void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMillis)).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+        log.info("가상 스레드 pinning 감시 시작 (기준: {}ms 이상)", thresholdMillis);
+    }
+
+    private void record(RecordedEvent event) {
+        totalEvents.increment();
+        String site = site(event);
+        Duration duration = event.getDuration();
+
+        PinningSite stats = sites.get(site);
+        if (stats == null && sites.size() < MAX_SITES) {
+            stats = sites.computeIfAbsent(site, PinningSite::new);
+        }
+        if (stats != null) stats.add(duration);
+
+        String thread = event.getThread() != null ? event.getThread().getJavaName() : "unknown";
+        synchronized (recent) {
+            if (recent.size() >= MAX_RECENT) recent.removeFirst();
+            recent.addLast(new PinnedEvent(event.getStartTime(), duration.toMillis(), thread, site));
+        }
+        log.warn("가상 스레드 pinning 감지 ({}ms, {}): {}", duration.toMillis(), thread, site);
+    }
+
+    private String site(RecordedEvent event) {
+        if (event.getStackTrace() == null) return "(스택 정보 없음)";
+        return event.getStackTrace().getFrames().stream()
+                .limit(SITE_FRAMES)
+                .map(this::describe)
+                .collect(Collectors.joining(" <- "));
+    }
+
+    private String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    /**
+     * 현재까지의 집계 결과 (고정 시간 합계가 큰 위치 순)
+     */
+    public Report report() {
+        List<SiteSummary> summaries = sites.values().stream()
+                .map(PinningSite::summary)
+                .sorted(Comparator.comparingLong(SiteSummary::totalMillis).reversed())
+                .toList();
+        List<PinnedEvent> latest;
+        synchronized (recent) {
+            latest = List.copyOf(recent);
+        }
+        return new Report(thresholdMillis, totalEvents.sum(), summaries, latest);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) stream.close();
+    }
+
+    public record Report(long thresholdMillis, long totalEvents, List<SiteSummary> sites, List<PinnedEvent> recent) {
+    }
+
+    public record SiteSummary(String site, long count, long totalMillis, long maxMillis) {
+    }
+
+    public record PinnedEvent(Instant at, long durationMillis, String thread, String site) {
+    }
+
+    /**
+     * 위치별 누적 통계
+     */
+    private static final class PinningSite {
+        private final String site;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        PinningSite(String site) {
+            this.site = site;
+        }
+
+        void add(Duration duration) {
+            long nanos = duration.toNanos();
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        SiteSummary summary() {
+            return new SiteSummary(site, count.sum(),
+                    Duration.ofNanos(totalNanos.sum()).toMillis(), Duration.ofNanos(maxNanos.get()).toMillis());
+        }
+    }
+}
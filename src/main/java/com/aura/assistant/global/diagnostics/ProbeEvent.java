@@ -0,0 +1,42 @@
+package com.aura.assistant.global.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * [ProbeEvent]
+ * 상태 체크 한 건의 JFR 이벤트입니다. 이벤트 시간(duration)이 체크 전체 소요 시간이고,
+ * DNS 조회와 접속/응답 구간은 필드로 나눠 기록합니다.
+ */
+@Name("aura.Probe")
+@Label("Probe")
+@Category({"Aura", "Monitoring"})
+@Description("서버 상태 체크 한 건")
+@StackTrace(false)
+public class ProbeEvent extends Event {
+
+    @Label("Project Id")
+    public long projectId;
+
+    @Label("Project")
+    public String projectName;
+
+    @Label("Probe Type")
+    public String probeType;
+
+    @Label("Status Code")
+    public int statusCode;
+
+    @Label("DNS")
+    @Timespan(Timespan.MILLISECONDS)
+    public long dnsMillis;
+
+    @Label("Connect / Response")
+    @Timespan(Timespan.MILLISECONDS)
+    public long latencyMillis;
+}
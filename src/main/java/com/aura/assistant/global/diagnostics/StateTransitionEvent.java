@@ -0,0 +1,32 @@
+package com.aura.assistant.global.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * [StateTransitionEvent]
+ * 프로젝트의 상태 코드가 바뀐 순간을 남기는 JFR 이벤트입니다. (최초 체크는 이전 상태 -1)
+ */
+@Name("aura.StateTransition")
+@Label("State Transition")
+@Category({"Aura", "Monitoring"})
+@Description("프로젝트 상태 변화")
+@StackTrace(false)
+public class StateTransitionEvent extends Event {
+
+    @Label("Project Id")
+    public long projectId;
+
+    @Label("Project")
+    public String projectName;
+
+    @Label("Previous Status")
+    public int previousStatus;
+
+    @Label("New Status")
+    public int newStatus;
+}
@@ -0,0 +1,34 @@
+package com.aura.assistant.global.security;
+
+import com.aura.assistant.domain.user.User;
+import com.aura.assistant.domain.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * [CurrentUser]
+ * 역할: 현재 요청을 보낸 로그인 사용자(JWT 기준)를 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUser {
+
+    private final UserRepository userRepository;
+
+    /**
+     * 로그인하지 않은 요청이면 빈 값을 돌려줍니다.
+     */
+    public Optional<User> get() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken
+                || !(authentication.getPrincipal() instanceof String email)) {
+            return Optional.empty();
+        }
+        return userRepository.findByEmail(email);
+    }
+}
@@ -3,9 +3,13 @@ package com.aura.assistant.global.security;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 import java.security.Key;
 import java.util.Date;
+import java.util.List;
 
 /**
  * [JwtTokenProvider]
@@ -75,4 +79,18 @@ public class JwtTokenProvider {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * [getAuthentication]
+     * 검증된 토큰에서 이메일과 권한을 꺼내 스프링 시큐리티 인증 객체로 만듭니다.
+     */
+    public Authentication getAuthentication(String token) {
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build()
+                .parseClaimsJws(token).getBody();
+        String role = claims.get("role", String.class);
+        List<SimpleGrantedAuthority> authorities = role != null
+                ? List.of(new SimpleGrantedAuthority("ROLE_" + role))
+                : List.of();
+        return new UsernamePasswordAuthenticationToken(claims.getSubject(), null, authorities);
+    }
+}
@@ -1,64 +1,80 @@
 package com.aura.assistant.monitor;
 
-import org.springframework.beans.factory.annotation.Value;
+import com.aura.assistant.global.diagnostics.GeminiRequestEvent;
+import com.aura.assistant.monitor.gemini.GeminiClient;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import java.util.List;
-import java.util.Map;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 /**
  * Google Gemini AI와 통신하여 서버 상태 분석 및 환영 메시지를 생성하는 서비스입니다.
  * 2026년 최신 모델(Gemini 2.5)을 사용하여 비용 최적화와 정확한 가이드를 제공합니다.
  */
 @Service
+@RequiredArgsConstructor
 public class GeminiService {
 
-    @Value("${google.ai.gemini.api-key}")
-    private String apiKey;
-
-    @Value("${google.ai.gemini.url}")
-    private String geminiUrl;
-
-    private final RestTemplate restTemplate = new RestTemplate();
+    // 연결 풀/HTTP2/제한 시간이 설정된 전용 클라이언트 (API Key는 헤더로 전달)
+    private final GeminiClient geminiClient;
 
     /**
      * 공통 API 호출 로직
-     * 역할: 설정된 URL에 API Key를 조합하여 Google 서버에 분석을 요청합니다.
+     * 역할: Google 서버에 분석을 요청하고, 실패하면 화면에 보여줄 안내 문구로 바꿉니다.
      */
     private String callGeminiApi(String prompt) {
-        // [수정] URL 파라미터로 키를 전달하는 표준 방식을 유지합니다.
-        String fullUrl = geminiUrl + "?key=" + apiKey;
-
-        Map<String, Object> requestBody = Map.of(
-                "contents", List.of(Map.of("parts", List.of(Map.of("text", prompt))))
-        );
-
         try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = restTemplate.postForObject(fullUrl, requestBody, Map.class);
-            return extractText(response);
-        } catch (org.springframework.web.client.HttpClientErrorException.TooManyRequests e) {
+            return requestGemini(prompt);
+        } catch (WebClientResponseException.TooManyRequests e) {
             // [포트폴리오 포인트] 429 RESOURCE_EXHAUSTED 에러 대응 로직
             return "AI 분석 호출 한도 초과 (잠시 후 자동 재시도 예정)";
+        } catch (IllegalStateException e) {
+            return "AI 응답 해석 오류: 데이터 형식이 변경되었을 수 있습니다.";
         } catch (Exception e) {
             // 404 에러 발생 시 로그에 상세 주소를 출력하여 디버깅을 돕습니다.
             return "AI 분석 일시 불가 (URL 확인 필요): " + e.getMessage();
         }
     }
 
+    /**
+     * 실제 API 요청
+     * 실패하면 안내 문구 대신 예외를 그대로 던집니다. (캐시/대체 문구를 직접 처리하는 곳에서 사용)
+     */
+    private String requestGemini(String prompt) {
+        // 호출 한 건을 JFR 이벤트로 남깁니다. (호출이 몰리거나 느려진 시점 분석용)
+        GeminiRequestEvent event = new GeminiRequestEvent();
+        event.begin();
+        event.promptLength = prompt.length();
+        try {
+            String text = geminiClient.generateBlocking(prompt);
+            event.success = true;
+            event.responseLength = text != null ? text.length() : 0;
+            return text;
+        } catch (RuntimeException e) {
+            event.error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            throw e;
+        } finally {
+            event.commit();
+        }
+    }
+
     // 1. 단순 텍스트 생성 (테스트용)
     public String getCompletion(String prompt) {
         return callGeminiApi(prompt);
     }
 
     /**
-     * 대시보드 진입 시 관리자에게 보여줄 환영 인사를 생성합니다.
+     * 환영 인사 생성 (GreetingService용)
+     * 한도 초과/오류 문구가 인사말로 캐시되지 않도록, 실패 시 예외를 던집니다.
      */
-    public String getWelcomeGreeting(String userName) {
-        String prompt = String.format(
-                "관리자 %s님이 Aura3D 관제 센터에 접속했어. " +
-                        "오늘의 날씨나 분위기를 고려해서 전문 비서처럼 아주 짧고 든든한 환영 인사를 한 줄로 해줘.", userName);
-        return callGeminiApi(prompt);
+    public String generateWelcomeGreeting(String userName, String timeOfDay) {
+        return requestGemini(welcomePrompt(userName, timeOfDay));
+    }
+
+    private String welcomePrompt(String userName, String timeOfDay) {
+        return String.format(
+                "관리자 %s님이 %s 시간대에 Aura3D 관제 센터에 접속했어. " +
+                        "%s 분위기를 고려해서 전문 비서처럼 아주 짧고 든든한 환영 인사를 한 줄로 해줘.",
+                userName, timeOfDay, timeOfDay);
     }
 
     /**
@@ -71,18 +87,4 @@ public class GeminiService {
         return callGeminiApi(prompt);
     }
 
-    /**
-     * Gemini의 복잡한 JSON 응답에서 실제 텍스트 내용만 추출합니다.
-     */
-    @SuppressWarnings("unchecked")
-    private String extractText(Map<String, Object> response) {
-        try {
-            List<Map<String, Object>> candidates = (List<Map<String, Object>>) response.get("candidates");
-            Map<String, Object> content = (Map<String, Object>) candidates.getFirst().get("content");
-            List<Map<String, Object>> parts = (List<Map<String, Object>>) content.get("parts");
-            return (String) parts.getFirst().get("text");
-        } catch (Exception e) {
-            return "AI 응답 해석 오류: 데이터 형식이 변경되었을 수 있습니다.";
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,257 @@
+package com.aura.assistant.monitor;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * [GreetingService]
+ * 역할: 대시보드 환영 인사를 캐시해 두고 즉시 돌려줍니다. (stale-while-revalidate)
+ * - 캐시가 있으면 바로 반환하고, 유효 시간(TTL)이 지났으면 백그라운드에서 새로 만들어 둡니다.
+ * - 캐시가 없으면 Gemini를 기다리지 않고 로컬 템플릿 인사로 바로 응답하며, 생성된 인사는 다음 접속부터 사용합니다.
+ * - 로그인할 때와 시간대가 바뀌기 직전에 미리 만들어 두므로, 대부분의 접속은 캐시에서 바로 응답합니다.
+ * 캐시 키는 '로그인 사용자 id + 시간대(아침/오후/저녁/밤)'이며, 최근에 쓰인 순서로 최대 개수만 보관합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GreetingService {
+
+    // 캐시/최근 사용자 목록의 최대 크기. 넘으면 가장 오래 쓰이지 않은 항목부터 지웁니다.
+    private static final int MAX_ENTRIES = 1_000;
+
+    // 시간대가 바뀌기 5분 전에 다음 시간대의 인사를 미리 만듭니다. (TimeSlot 경계: 5, 12, 18, 23시)
+    private static final String PRECOMPUTE_CRON = "0 55 4,11,17,22 * * *";
+
+    // 미리 만들기 요청을 한꺼번에 보내지 않고 이 시간 동안 나눠 보냅니다. (경계 전 1분은 여유로 남김)
+    private static final Duration PRECOMPUTE_SPREAD = Duration.ofMinutes(4);
+
+    // 동시에 진행할 수 있는 Gemini 호출 수. 나머지는 자리가 날 때까지 기다립니다.
+    private static final int MAX_CONCURRENT_REQUESTS = 4;
+
+    // 이 시간 안에 접속한 사용자만 미리 만들기 대상입니다.
+    private static final Duration ACTIVE_USER_WINDOW = Duration.ofDays(1);
+
+    @Lazy // 인사가 처음 필요할 때 만들어집니다. (기동 시간 단축)
+    private final GeminiService geminiService;
+    private final ExecutorService aiExecutor;
+    private final TaskScheduler taskScheduler;
+
+    // 캐시된 인사를 새로 만들기까지의 유효 시간(분)
+    @Value("${aura.greeting.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    private final Map<String, CachedGreeting> cache = lruMap();
+
+    // 미리 만들기 대상 사용자 (id → 이름, 마지막 접속)
+    private final Map<Long, ActiveUser> activeUsers = lruMap();
+
+    // 같은 키에 대한 Gemini 호출이 동시에 여러 번 나가지 않도록 진행 중인 요청을 공유합니다.
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final Semaphore geminiPermits = new Semaphore(MAX_CONCURRENT_REQUESTS);
+
+    @PostConstruct
+    void schedulePrecompute() {
+        taskScheduler.schedule(this::precomputeNextSlot, new CronTrigger(PRECOMPUTE_CRON));
+    }
+
+    /**
+     * 로그인 사용자의 환영 인사를 돌려줍니다. Gemini를 기다리지 않고 항상 즉시 반환합니다.
+     */
+    public String getGreeting(Long userId, String userName) {
+        TimeSlot slot = TimeSlot.now();
+        String key = key(userId, slot);
+        activeUsers.put(userId, new ActiveUser(userName, System.nanoTime()));
+
+        // 1. 캐시가 있으면 즉시 반환하고, 오래됐으면 뒤에서 갱신만 걸어둡니다.
+        CachedGreeting cached = cache.get(key);
+        if (cached != null) {
+            if (cached.isExpired(Duration.ofMinutes(ttlMinutes))) {
+                refresh(key, userName, slot);
+            }
+            return cached.text();
+        }
+
+        // 2. 캐시가 없으면 생성만 걸어두고 로컬 템플릿으로 바로 응답합니다. (첫 화면이 모델을 기다리지 않음)
+        refresh(key, userName, slot);
+        return slot.template(userName);
+    }
+
+    /**
+     * 로그인하지 않은 요청용: Gemini를 호출하지 않고 지금 시간대의 템플릿 인사를 돌려줍니다.
+     */
+    public String getTemplateGreeting(String userName) {
+        return TimeSlot.now().template(userName);
+    }
+
+    /**
+     * 로그인 직후 호출: 대시보드에 들어오기 전에 지금 시간대의 인사를 미리 만들어 둡니다.
+     */
+    public void prefetch(Long userId, String userName) {
+        activeUsers.put(userId, new ActiveUser(userName, System.nanoTime()));
+        TimeSlot slot = TimeSlot.now();
+        String key = key(userId, slot);
+        if (!cache.containsKey(key)) refresh(key, userName, slot);
+    }
+
+    /**
+     * 시간대가 바뀌기 직전에, 최근 접속한 사용자들의 다음 시간대 인사를 미리 만듭니다.
+     * 대상이 많아도 Gemini 호출이 한꺼번에 몰리지 않도록 PRECOMPUTE_SPREAD 동안 고르게 나눠 예약합니다.
+     */
+    private void precomputeNextSlot() {
+        TimeSlot next = TimeSlot.now().next();
+        long now = System.nanoTime();
+        List<Map.Entry<Long, ActiveUser>> targets;
+        synchronized (activeUsers) {
+            targets = activeUsers.entrySet().stream()
+                    .filter(entry -> now - entry.getValue().lastSeen() < ACTIVE_USER_WINDOW.toNanos())
+                    .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                    .toList();
+        }
+        if (targets.isEmpty()) return;
+
+        Instant start = Instant.now();
+        long stepMillis = PRECOMPUTE_SPREAD.toMillis() / targets.size();
+        for (int i = 0; i < targets.size(); i++) {
+            Map.Entry<Long, ActiveUser> entry = targets.get(i);
+            String key = key(entry.getKey(), next);
+            taskScheduler.schedule(() -> refresh(key, entry.getValue().name(), next),
+                    start.plusMillis(stepMillis * i));
+        }
+        log.info("{} 시간대 환영 인사 미리 생성: {}명", next, targets.size());
+    }
+
+    /**
+     * 백그라운드에서 지정한 시간대의 인사를 새로 만들고, 성공하면 캐시에 넣습니다.
+     */
+    private CompletableFuture<String> refresh(String key, String userName, TimeSlot slot) {
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) return existing;
+
+        CompletableFuture<String> generated;
+        try {
+            generated = CompletableFuture.supplyAsync(() -> generate(userName, slot), aiExecutor);
+        } catch (RejectedExecutionException e) {
+            // 작업이 등록되지 않으면 whenComplete도 불리지 않으므로 여기서 정리해야 뒤 요청이 묶이지 않습니다.
+            inFlight.remove(key, created);
+            log.warn("환영 인사 갱신 요청 거부 (기존 인사 유지): {}", e.getMessage());
+            created.completeExceptionally(e);
+            return created;
+        }
+        generated.whenComplete((text, error) -> {
+            inFlight.remove(key, created);
+            if (error != null) {
+                log.warn("환영 인사 갱신 실패 (기존 인사 유지): {}", error.getMessage());
+                created.completeExceptionally(error);
+                return;
+            }
+            if (text != null && !text.isBlank()) {
+                cache.put(key, new CachedGreeting(text.strip(), System.nanoTime()));
+            }
+            created.complete(text);
+        });
+        return created;
+    }
+
+    /**
+     * 동시 호출 수 제한 안에서 Gemini에 인사를 요청합니다. (aiExecutor의 가상 스레드에서 자리를 기다림)
+     */
+    private String generate(String userName, TimeSlot slot) {
+        try {
+            geminiPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+        try {
+            return geminiService.generateWelcomeGreeting(userName, slot.label());
+        } finally {
+            geminiPermits.release();
+        }
+    }
+
+    private static String key(Long userId, TimeSlot slot) {
+        return userId + "|" + slot;
+    }
+
+    /**
+     * 최근에 쓰인 순서를 기억하고, MAX_ENTRIES를 넘으면 가장 오래 쓰이지 않은 항목을 지우는 맵
+     */
+    private static <K, V> Map<K, V> lruMap() {
+        return Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        });
+    }
+
+    private record CachedGreeting(String text, long createdAt) {
+        boolean isExpired(Duration ttl) {
+            return System.nanoTime() - createdAt > ttl.toNanos();
+        }
+    }
+
+    private record ActiveUser(String name, long lastSeen) {
+    }
+
+    /**
+     * 인사의 분위기를 결정하는 시간대 (캐시 키와 템플릿 인사에 사용)
+     */
+    private enum TimeSlot {
+        MORNING("아침", "좋은 아침입니다, %s님! 오늘도 Aura3D가 모든 서버를 든든하게 지키겠습니다."),
+        AFTERNOON("오후", "반갑습니다, %s님! 오후에도 서버 상태는 제가 꼼꼼히 살피고 있겠습니다."),
+        EVENING("저녁", "수고 많으셨습니다, %s님! 저녁 시간에도 관제는 Aura3D에게 맡겨주세요."),
+        NIGHT("늦은 밤", "늦은 시간까지 고생 많으십니다, %s님! 야간 감시는 제가 책임지겠습니다.");
+
+        private final String label;
+        private final String template;
+
+        TimeSlot(String label, String template) {
+            this.label = label;
+            this.template = template;
+        }
+
+        // Gemini 프롬프트에 넣는 시간대 이름
+        String label() {
+            return label;
+        }
+
+        String template(String userName) {
+            return String.format(template, userName);
+        }
+
+        TimeSlot next() {
+            return values()[(ordinal() + 1) % values().length];
+        }
+
+        static TimeSlot now() {
+            int hour = LocalTime.now().getHour();
+            if (hour >= 5 && hour < 12) return MORNING;
+            if (hour >= 12 && hour < 18) return AFTERNOON;
+            if (hour >= 18 && hour < 23) return EVENING;
+            return NIGHT;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.aura.assistant.monitor;
+
+import com.aura.assistant.domain.MonitoringHistory;
+import com.aura.assistant.domain.MonitoringHistoryRepository;
+import com.aura.assistant.domain.TargetProject;
+import com.aura.assistant.domain.TargetProjectRepository;
+import com.aura.assistant.global.diagnostics.HistoryFlushEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * [HistoryRunRecorder]
+ * 역할: 모니터링 이력을 '상태 구간(run)' 단위로 기록합니다.
+ * - 상태가 바뀔 때만 MonitoringHistory 행을 새로 저장합니다. (AI 가이드도 이때 한 번만 저장)
+ * - 같은 상태가 이어지는 동안은 메모리에서 체크 횟수만 올리고, 주기적으로 한 번에 DB에 반영합니다.
+ *   (프로젝트의 마지막 체크 시각(lastCheckTime)도 이때 함께 반영합니다.)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HistoryRunRecorder {
+
+    private final MonitoringHistoryRepository monitoringHistoryRepository;
+    private final TargetProjectRepository targetProjectRepository;
+    private final TaskScheduler taskScheduler;
+    private final ExecutorService probeExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    // 메모리에 모은 체크 횟수를 DB에 반영하는 주기(초)
+    @Value("${aura.history.flush-interval-seconds:60}")
+    private long flushIntervalSeconds;
+
+    // 프로젝트별로 현재 진행 중인 상태 구간
+    private final Map<Long, OpenRun> openRuns = new ConcurrentHashMap<>();
+
+    private ScheduledFuture<?> flushTask;
+
+    @PostConstruct
+    void startFlushing() {
+        flushTask = taskScheduler.scheduleAtFixedRate(this::flushAll, Duration.ofSeconds(flushIntervalSeconds));
+    }
+
+    /**
+     * 프로젝트의 현재 상태 구간을 돌려줍니다.
+     * 메모리에 없으면(서버 재시작 직후 등) DB의 마지막 기록을 이어서 사용합니다.
+     */
+    public OpenRun currentRun(Long projectId) {
+        OpenRun run = openRuns.get(projectId);
+        if (run != null) return run;
+
+        return monitoringHistoryRepository.findFirstByTargetProjectIdOrderByCheckedAtDesc(projectId)
+                .map(history -> openRuns.computeIfAbsent(projectId, id -> new OpenRun(id, history)))
+                .orElse(null);
+    }
+
+    /**
+     * 상태가 그대로일 때: DB에 쓰지 않고 체크 횟수와 마지막 확인 시간만 메모리에서 갱신합니다.
+     */
+    public void extend(OpenRun run, LocalDateTime checkedAt) {
+        run.heartbeat(checkedAt);
+    }
+
+    /**
+     * 상태가 바뀌었을 때: 이전 구간의 남은 카운트를 반영하고, 새 구간의 행을 저장합니다.
+     */
+    public OpenRun startRun(TargetProject project, int statusCode, String aiGuide, LocalDateTime checkedAt) {
+        OpenRun previous = openRuns.get(project.getId());
+        if (previous != null) flush(previous);
+
+        MonitoringHistory history = monitoringHistoryRepository.save(MonitoringHistory.builder()
+                .targetProject(project)
+                .statusCode(statusCode)
+                .checkedAt(checkedAt)
+                .checkCount(1)
+                .lastSeenAt(checkedAt)
+                .aiGuide(aiGuide)
+                .build());
+
+        OpenRun run = new OpenRun(project.getId(), history);
+        openRuns.put(project.getId(), run);
+        return run;
+    }
+
+    /**
+     * 모든 진행 중인 구간의 쌓인 카운트를 DB에 반영합니다. (구간당 UPDATE 한 번)
+     */
+    public void flushAll() {
+        HistoryFlushEvent event = new HistoryFlushEvent();
+        event.begin();
+        for (OpenRun run : openRuns.values()) {
+            OpenRun.Pending pending = run.drain();
+            if (pending == null) continue;
+            if (write(run, pending)) {
+                event.runs++;
+                event.checks += pending.checks();
+            } else {
+                event.failures++;
+            }
+        }
+        if (event.runs + event.failures > 0) event.commit();
+    }
+
+    private void flush(OpenRun run) {
+        OpenRun.Pending pending = run.drain();
+        if (pending != null) write(run, pending);
+    }
+
+    private boolean write(OpenRun run, OpenRun.Pending pending) {
+        try {
+            // 시각 갱신은 여러 번 실행돼도 결과가 같으므로 먼저 실행합니다. (재시도 시 체크 횟수가 두 번 더해지지 않음)
+            targetProjectRepository.updateLastCheckTime(run.getProjectId(), pending.lastSeenAt());
+            monitoringHistoryRepository.extendRun(run.getHistoryId(), pending.checks(), pending.lastSeenAt());
+            return true;
+        } catch (Exception e) {
+            // 실패한 카운트는 되돌려 놓고 다음 주기에 다시 시도합니다.
+            run.restore(pending);
+            log.warn("모니터링 기록 반영 실패 (다음 주기에 재시도): {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 프로젝트 감시가 끝났을 때 남은 카운트를 반영하고 메모리에서 정리합니다.
+     */
+    public void close(Long projectId) {
+        OpenRun run = openRuns.remove(projectId);
+        if (run != null) flush(run);
+    }
+
+    /**
+     * 여러 프로젝트의 감시가 한꺼번에 끝났을 때(점검 시작, 묶음 중지): 메모리에서는 바로 정리하고,
+     * 남은 카운트는 probeExecutor에서 한 트랜잭션으로 모아 반영합니다. (호출한 스케줄러 스레드가 DB를 기다리지 않음)
+     */
+    public void closeAll(Collection<Long> projectIds) {
+        List<Drained> drained = new ArrayList<>();
+        for (Long projectId : projectIds) {
+            OpenRun run = openRuns.remove(projectId);
+            if (run == null) continue;
+            OpenRun.Pending pending = run.drain();
+            if (pending != null) drained.add(new Drained(run, pending));
+        }
+        if (drained.isEmpty()) return;
+
+        try {
+            probeExecutor.execute(() -> writeAll(drained));
+        } catch (RejectedExecutionException e) {
+            // 종료 중이면 그 자리에서 반영합니다.
+            writeAll(drained);
+        }
+    }
+
+    private void writeAll(List<Drained> drained) {
+        HistoryFlushEvent event = new HistoryFlushEvent();
+        event.begin();
+        try {
+            transactionTemplate.executeWithoutResult(status -> drained.forEach(entry -> {
+                targetProjectRepository.updateLastCheckTime(entry.run().getProjectId(), entry.pending().lastSeenAt());
+                monitoringHistoryRepository.extendRun(entry.run().getHistoryId(), entry.pending().checks(), entry.pending().lastSeenAt());
+                event.runs++;
+                event.checks += entry.pending().checks();
+            }));
+        } catch (Exception e) {
+            // 감시가 끝난 구간이라 다시 시도할 곳이 없으므로, close()와 같이 기록만 남깁니다.
+            event.runs = 0;
+            event.checks = 0;
+            event.failures = drained.size();
+            log.warn("모니터링 기록 일괄 반영 실패 ({}개 구간): {}", drained.size(), e.getMessage());
+        }
+        event.commit();
+    }
+
+    private record Drained(OpenRun run, OpenRun.Pending pending) {
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (flushTask != null) flushTask.cancel(false);
+        flushAll();
+    }
+
+    /**
+     * [OpenRun]
+     * 현재 진행 중인 상태 구간입니다. DB 행의 id와 아직 반영하지 않은 체크 횟수를 들고 있습니다.
+     */
+    public static final class OpenRun {
+        @Getter private final Long projectId;
+        @Getter private final Long historyId;
+        @Getter private final int statusCode;
+        @Getter private final String aiGuide;
+
+        private long pendingChecks;
+        private LocalDateTime lastSeenAt;
+
+        private OpenRun(Long projectId, MonitoringHistory history) {
+            this.projectId = projectId;
+            this.historyId = history.getId();
+            this.statusCode = history.getStatusCode();
+            this.aiGuide = history.getAiGuide();
+            this.lastSeenAt = history.getLastSeenAt();
+        }
+
+        synchronized void heartbeat(LocalDateTime checkedAt) {
+            pendingChecks++;
+            lastSeenAt = checkedAt;
+        }
+
+        synchronized Pending drain() {
+            if (pendingChecks == 0) return null;
+            Pending pending = new Pending(pendingChecks, lastSeenAt);
+            pendingChecks = 0;
+            return pending;
+        }
+
+        synchronized void restore(Pending pending) {
+            pendingChecks += pending.checks();
+        }
+
+        record Pending(long checks, LocalDateTime lastSeenAt) {
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.aura.assistant.monitor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * [MaintenanceService]
+ * 역할: 예정된 점검 시간(maintenance window)을 관리합니다.
+ * - 점검이 시작되면 대상 프로젝트의 체크를 멈춥니다. (체크가 없으므로 이력 저장, 알림, Gemini 호출도 없음)
+ * - 점검이 끝나면 점검 전에 감시 중이던 프로젝트만 첫 체크를 분산시켜 다시 시작합니다.
+ * 점검 일정은 메모리에만 보관하므로 서버를 재시작하면 다시 등록해야 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MaintenanceService {
+
+    private final TaskScheduler taskScheduler;
+    private final MonitoringService monitoringService;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    /**
+     * 점검 시간을 등록합니다. 시작 시각이 이미 지났으면 바로 점검을 시작합니다.
+     */
+    public MaintenanceWindow schedule(Set<Long> projectIds, Instant startsAt, Instant endsAt, String reason, Long createdBy) {
+        if (projectIds.isEmpty()) {
+            throw new IllegalArgumentException("점검 대상 프로젝트가 없습니다.");
+        }
+        if (!endsAt.isAfter(startsAt) || !endsAt.isAfter(Instant.now())) {
+            throw new IllegalArgumentException("점검 종료 시각은 시작 시각과 현재 시각보다 뒤여야 합니다.");
+        }
+
+        MaintenanceWindow info = new MaintenanceWindow(
+                UUID.randomUUID().toString().substring(0, 8), Set.copyOf(projectIds), startsAt, endsAt, reason, createdBy);
+        Window window = new Window(info);
+        window.beginTask = taskScheduler.schedule(() -> begin(window), startsAt);
+        window.endTask = taskScheduler.schedule(() -> end(window), endsAt);
+        windows.put(info.id(), window);
+        log.info("점검 등록 [{}]: 프로젝트 {}개, {} ~ {} ({})", info.id(), projectIds.size(), startsAt, endsAt, reason);
+        return info;
+    }
+
+    /**
+     * 등록된 점검 목록 (시작 시각 순)
+     */
+    public List<MaintenanceWindow> list() {
+        return windows.values().stream()
+                .map(Window::info)
+                .sorted(Comparator.comparing(MaintenanceWindow::startsAt))
+                .toList();
+    }
+
+    /**
+     * 점검을 취소합니다. 이미 진행 중이면 바로 종료하고 프로젝트를 다시 시작합니다.
+     */
+    public boolean cancel(String windowId) {
+        Window window = windows.get(windowId);
+        if (window == null) return false;
+        window.beginTask.cancel(false);
+        window.endTask.cancel(false);
+        end(window);
+        return true;
+    }
+
+    public MaintenanceWindow find(String windowId) {
+        Window window = windows.get(windowId);
+        return window != null ? window.info : null;
+    }
+
+    private void begin(Window window) {
+        synchronized (window) {
+            if (window.state != State.SCHEDULED) return;
+            window.state = State.ACTIVE;
+        }
+        monitoringService.suspend(window.info.projectIds());
+        log.info("점검 시작 [{}]: 프로젝트 {}개 체크 중지", window.info.id(), window.info.projectIds().size());
+    }
+
+    private void end(Window window) {
+        boolean wasActive;
+        synchronized (window) {
+            if (window.state == State.ENDED) return;
+            wasActive = window.state == State.ACTIVE;
+            window.state = State.ENDED;
+        }
+        windows.remove(window.info.id());
+        if (wasActive) {
+            int restarted = monitoringService.resume(window.info.projectIds());
+            log.info("점검 종료 [{}]: 프로젝트 {}개 재시작", window.info.id(), restarted);
+        } else {
+            log.info("점검 취소 [{}]", window.info.id());
+        }
+    }
+
+    /**
+     * 점검 일정 정보
+     *
+     * @param projectIds 점검 대상 프로젝트
+     * @param createdBy  등록한 사용자 id
+     */
+    public record MaintenanceWindow(String id, Set<Long> projectIds, Instant startsAt, Instant endsAt,
+                                    String reason, Long createdBy) {
+    }
+
+    private enum State { SCHEDULED, ACTIVE, ENDED }
+
+    private static final class Window {
+        private final MaintenanceWindow info;
+        private State state = State.SCHEDULED;
+        private ScheduledFuture<?> beginTask;
+        private ScheduledFuture<?> endTask;
+
+        Window(MaintenanceWindow info) {
+            this.info = info;
+        }
+
+        MaintenanceWindow info() {
+            return info;
+        }
+    }
+}
@@ -3,12 +3,21 @@ package com.aura.assistant.monitor;
 import com.aura.assistant.domain.MonitoringHistory;
 import com.aura.assistant.domain.TargetProject;
 import com.aura.assistant.domain.TargetProjectRepository;
+import com.aura.assistant.domain.user.Role;
+import com.aura.assistant.domain.user.User;
+import com.aura.assistant.global.security.CurrentUser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * [MonitorController]
@@ -21,41 +30,203 @@ import java.util.Map;
 public class MonitorController {
 
     private final MonitoringService monitoringService;
-    private final GeminiService geminiService; // GeminiService 주입 추가
+    private final GreetingService greetingService; // 캐시된 환영 인사 제공
     private final TargetProjectRepository targetProjectRepository;
+    private final SparklineStore sparklineStore;
+    private final CurrentUser currentUser;
+    private final MaintenanceService maintenanceService;
 
     // [추가] 대시보드 첫 진입 시 AI 환영 인사를 가져옵니다.
     @GetMapping("/welcome")
-    public ResponseEntity<String> getWelcome(@RequestParam("userName") String userName) {
-        // GeminiService를 직접 호출하여 실시간 인사말을 생성합니다.
-        String greeting = geminiService.getWelcomeGreeting(userName);
+    public ResponseEntity<String> getWelcome(@RequestParam(value = "userName", defaultValue = "관리자") String userName) {
+        // 캐시된 인사를 즉시 돌려주고, 갱신은 백그라운드에서 합니다. (첫 화면이 Gemini를 기다리지 않음)
+        // 로그인하지 않은 요청은 Gemini를 호출하지 않고 템플릿 인사만 돌려줍니다.
+        String greeting = currentUser.get()
+                .map(user -> greetingService.getGreeting(user.getId(), user.getName()))
+                .orElseGet(() -> greetingService.getTemplateGreeting(userName));
         return ResponseEntity.ok(greeting);
     }
 
     /**
-     * 모니터링 시작: 특정 프로젝트의 감시 스케줄러를 가동합니다.
+     * 모니터링 시작: 특정 프로젝트의 감시 스케줄러를 가동합니다. (본인 소유만, 관리자는 전체)
      */
     @PostMapping("/start")
-    public ResponseEntity<String> start(@RequestParam("projectId") Long projectId) {
+    public ResponseEntity<?> start(@RequestParam("projectId") Long projectId) {
+        Optional<User> user = currentUser.get();
+        if (user.isEmpty()) return unauthorized();
+        if (findAccessible(user.get(), projectId).isEmpty()) return projectNotFound();
+
         monitoringService.startMonitoring(projectId);
         return ResponseEntity.ok("모니터링이 시작되었습니다.");
     }
 
     /**
-     * 모니터링 중지: 진행 중인 감시 작업을 멈춥니다.
+     * 모니터링 중지: 진행 중인 감시 작업을 멈춥니다. (본인 소유만, 관리자는 전체)
      */
     @PostMapping("/stop")
-    public ResponseEntity<String> stop(@RequestParam("projectId") Long projectId) {
+    public ResponseEntity<?> stop(@RequestParam("projectId") Long projectId) {
+        Optional<User> user = currentUser.get();
+        if (user.isEmpty()) return unauthorized();
+        if (findAccessible(user.get(), projectId).isEmpty()) return projectNotFound();
+
         monitoringService.stopMonitoring(projectId);
         return ResponseEntity.ok("모니터링이 중지되었습니다.");
     }
 
+    /**
+     * 묶음 시작: id 목록, 태그, 소유자 중 하나로 대상을 고르고 쿼리 한 번으로 불러와 시작합니다.
+     * 첫 체크는 일정 구간에 분산되어 한꺼번에 몰리지 않습니다.
+     */
+    @PostMapping("/bulk/start")
+    public ResponseEntity<?> bulkStart(@RequestBody ProjectSelection selection) {
+        Optional<User> user = currentUser.get();
+        if (user.isEmpty()) return unauthorized();
+
+        List<TargetProject> projects = select(user.get(), selection);
+        int started = monitoringService.startMonitoring(projects);
+        return ResponseEntity.ok(Map.of("matched", projects.size(), "started", started));
+    }
+
+    /**
+     * 묶음 중지: 대상을 쿼리 한 번으로 확인한 뒤 예약된 체크를 모두 취소합니다.
+     */
+    @PostMapping("/bulk/stop")
+    public ResponseEntity<?> bulkStop(@RequestBody ProjectSelection selection) {
+        Optional<User> user = currentUser.get();
+        if (user.isEmpty()) return unauthorized();
+
+        List<TargetProject> projects = select(user.get(), selection);
+        int stopped = monitoringService.stopMonitoring(projects.stream().map(TargetProject::getId).toList());
+        return ResponseEntity.ok(Map.of("matched", projects.size(), "stopped", stopped));
+    }
+
+    /**
+     * 점검 등록: 점검 시간 동안 대상 프로젝트의 체크와 AI 호출을 멈추고, 끝나면 분산 재시작합니다.
+     */
+    @PostMapping("/maintenance")
+    public ResponseEntity<?> scheduleMaintenance(@RequestBody MaintenanceRequest request) {
+        Optional<User> user = currentUser.get();
+        if (user.isEmpty()) return unauthorized();
+
+        if (request.endsAt() == null) {
+            return ResponseEntity.badRequest().body(Map.of("message", "점검 종료 시각(endsAt)이 필요합니다."));
+        }
+
+        Set<Long> projectIds = select(user.get(), request.selection()).stream()
+                .map(TargetProject::getId)
+                .collect(Collectors.toSet());
+        Instant startsAt = request.startsAt() != null ? request.startsAt() : Instant.now();
+        try {
+            return ResponseEntity.ok(maintenanceService.schedule(
+                    projectIds, startsAt, request.endsAt(), request.reason(), user.get().getId()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * 등록된 점검 목록 (관리자는 전체, 그 외에는 본인이 등록한 점검)
+     */
+    @GetMapping("/maintenance")
+    public ResponseEntity<?> listMaintenance() {
+        Optional<User> user = currentUser.get();
+        if (user.isEmpty()) return unauthorized();
+
+        return ResponseEntity.ok(maintenanceService.list().stream()
+                .filter(window -> isAdmin(user.get()) || user.get().getId().equals(window.createdBy()))
+                .toList());
+    }
+
+    /**
+     * 점검 취소 (진행 중이면 즉시 종료하고 재시작)
+     */
+    @DeleteMapping("/maintenance/{windowId}")
+    public ResponseEntity<?> cancelMaintenance(@PathVariable("windowId") String windowId) {
+        Optional<User> user = currentUser.get();
+        if (user.isEmpty()) return unauthorized();
+
+        MaintenanceService.MaintenanceWindow window = maintenanceService.find(windowId);
+        if (window == null || !(isAdmin(user.get()) || user.get().getId().equals(window.createdBy()))) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", "점검 일정을 찾을 수 없습니다."));
+        }
+        maintenanceService.cancel(windowId);
+        return ResponseEntity.ok(Map.of("message", "점검이 취소되었습니다."));
+    }
+
+    /**
+     * 묶음 제어 대상을 쿼리 한 번으로 조회합니다. (id 목록 > 태그 > 소유자 순으로 적용)
+     * 관리자가 아니면 항상 본인 소유 프로젝트 안에서만 고릅니다.
+     */
+    private List<TargetProject> select(User user, ProjectSelection selection) {
+        if (isAdmin(user)) {
+            if (selection.projectIds() != null && !selection.projectIds().isEmpty()) {
+                return targetProjectRepository.findAllById(selection.projectIds());
+            }
+            if (selection.tag() != null && !selection.tag().isBlank()) {
+                return selection.ownerId() != null
+                        ? targetProjectRepository.findAllByOwnerIdAndTag(selection.ownerId(), selection.tag())
+                        : targetProjectRepository.findAllByTag(selection.tag());
+            }
+            return targetProjectRepository.findAllByOwnerId(selection.ownerId() != null ? selection.ownerId() : user.getId());
+        }
+
+        if (selection.projectIds() != null && !selection.projectIds().isEmpty()) {
+            return targetProjectRepository.findAllByIdInAndOwnerId(selection.projectIds(), user.getId());
+        }
+        if (selection.tag() != null && !selection.tag().isBlank()) {
+            return targetProjectRepository.findAllByOwnerIdAndTag(user.getId(), selection.tag());
+        }
+        return targetProjectRepository.findAllByOwnerId(user.getId());
+    }
+
+    /**
+     * 단건 API 대상 프로젝트를 조회합니다. 관리자가 아니면 본인 소유일 때만 찾습니다.
+     * (남의 프로젝트는 존재 여부도 알 수 없도록 없는 것과 똑같이 404로 응답)
+     */
+    private Optional<TargetProject> findAccessible(User user, Long projectId) {
+        return isAdmin(user)
+                ? targetProjectRepository.findById(projectId)
+                : targetProjectRepository.findByIdAndOwnerId(projectId, user.getId());
+    }
+
+    private boolean isAdmin(User user) {
+        return user.getRole() == Role.ADMIN;
+    }
+
+    private ResponseEntity<Map<String, String>> unauthorized() {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("message", "로그인이 필요합니다."));
+    }
+
+    private ResponseEntity<Map<String, String>> projectNotFound() {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", "프로젝트를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 묶음 제어 대상 (projectIds, tag, ownerId 중 하나. 모두 비우면 본인 프로젝트 전체)
+     */
+    public record ProjectSelection(List<Long> projectIds, String tag, Long ownerId) {
+    }
+
+    /**
+     * 점검 등록 요청 (startsAt을 비우면 즉시 시작)
+     */
+    public record MaintenanceRequest(List<Long> projectIds, String tag, Long ownerId,
+                                     Instant startsAt, Instant endsAt, String reason) {
+        ProjectSelection selection() {
+            return new ProjectSelection(projectIds, tag, ownerId);
+        }
+    }
+
     /**
      * 특정 프로젝트의 최신 데이터(DB 값)를 반환합니다.
      * 이제 더 이상 가짜 500 에러를 보내지 않고, 실제 모니터링 결과를 보냅니다.
      */
     @GetMapping("/status")
-    public ResponseEntity<Map<String, Object>> getLatestStatus(@RequestParam("projectId") Long projectId) {
+    public ResponseEntity<?> getLatestStatus(@RequestParam("projectId") Long projectId) {
+        Optional<User> user = currentUser.get();
+        if (user.isEmpty()) return unauthorized();
+        if (findAccessible(user.get(), projectId).isEmpty()) return projectNotFound();
+
         Map<String, Object> response = new HashMap<>();
 
         // 1. 서비스 클래스를 통해 DB에서 해당 프로젝트의 가장 최근 기록을 가져옵니다.
@@ -74,12 +245,33 @@ public class MonitorController {
         return ResponseEntity.ok(response);
     }
 
-    // 클릭 시 개별 분석 API
+    /**
+     * 로그인 사용자 프로젝트들의 최근 체크 기록(미니 차트용)을 한 번에 반환합니다.
+     * 차트 데이터는 메모리 링 버퍼에서 바로 읽고, DB에서는 소유 프로젝트 id만 조회합니다.
+     */
+    @GetMapping("/sparklines")
+    public ResponseEntity<Map<Long, SparklineStore.Sparkline>> getSparklines(
+            @RequestParam(value = "points", defaultValue = "0") int points) {
+        return currentUser.get()
+                .map(user -> ResponseEntity.ok(sparklineStore.snapshot(targetProjectRepository.findIdsByOwnerId(user.getId()), points)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+    }
+
+    // 클릭 시 개별 분석 API (본인 소유만, 관리자는 전체)
     @GetMapping("/analyze")
-    public ResponseEntity<String> analyzeProject(@RequestParam("projectId") Long projectId) {
+    public ResponseEntity<?> analyzeProject(@RequestParam("projectId") Long projectId) {
+        Optional<User> user = currentUser.get();
+        if (user.isEmpty()) return unauthorized();
+
         // targetProjectRepository를 통해 DB 조회
-        TargetProject project = targetProjectRepository.findById(projectId)
-                .orElseThrow(() -> new RuntimeException("프로젝트를 찾을 수 없습니다."));
+        Optional<TargetProject> found = findAccessible(user.get(), projectId);
+        if (found.isEmpty()) return projectNotFound();
+        TargetProject project = found.get();
+
+        // 점검 중에는 Gemini를 호출하지 않습니다.
+        if (monitoringService.isSuspended(projectId)) {
+            return ResponseEntity.ok("점검 중인 프로젝트입니다. 점검이 끝나면 다시 분석할 수 있습니다.");
+        }
 
         // 분석 결과 반환
         String analysis = monitoringService.getAiAnalysis(project.getLastStatus(), project.getName());
@@ -1,18 +1,30 @@
 package com.aura.assistant.monitor;
 
 import com.aura.assistant.domain.*;
+import com.aura.assistant.global.diagnostics.ProbeEvent;
+import com.aura.assistant.global.diagnostics.StateTransitionEvent;
+import com.aura.assistant.monitor.probe.ProbeResult;
+import com.aura.assistant.monitor.probe.ServerProber;
+import com.aura.assistant.notification.AlertDispatcher;
+import com.aura.assistant.notification.AlertEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.net.HttpURLConnection;
-import java.net.URI;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
 
 /**
@@ -27,103 +39,285 @@ public class MonitoringService {
     private final TaskScheduler taskScheduler;
     private final TargetProjectRepository repository;
     private final MonitoringHistoryRepository monitoringHistoryRepository;
+    @Lazy // 상태가 처음 바뀔 때 만들어집니다. (기동 시간 단축)
     private final GeminiService geminiService;
+    private final HistoryRunRecorder historyRunRecorder;
+    private final ServerProber serverProber;
+    private final AlertDispatcher alertDispatcher;
+    private final ExecutorService probeExecutor;
+    private final SparklineStore sparklineStore;
+
+    // 기본 체크 주기 (프로젝트에 주기가 설정되지 않은 경우)
+    private static final Duration DEFAULT_INTERVAL = Duration.ofMinutes(5);
+
+    // 가벼운 TCP/TLS 체크도 너무 잦지 않도록 최소 주기를 둡니다.
+    private static final Duration MIN_INTERVAL = Duration.ofSeconds(5);
+
+    // 묶음 시작/점검 후 재시작 시 첫 체크를 이 시간 안에 고르게 나눕니다.
+    @Value("${aura.monitoring.restart-stagger-seconds:60}")
+    private long restartStaggerSeconds;
 
     // 현재 감시 중인 작업들을 메모리에 저장 (중복 실행 방지 및 중지용)
     private final Map<Long, ScheduledFuture<?>> activeTasks = new ConcurrentHashMap<>();
 
+    // 체크가 진행 중인 프로젝트 (이전 체크가 안 끝났으면 이번 주기는 건너뜁니다)
+    private final Set<Long> checksInFlight = ConcurrentHashMap.newKeySet();
+
+    // 점검 중인 프로젝트 (값: 겹친 점검 구간 수) / 점검이 끝나면 다시 시작할 프로젝트
+    private final Map<Long, Integer> suspensions = new ConcurrentHashMap<>();
+    private final Set<Long> resumeAfterMaintenance = ConcurrentHashMap.newKeySet();
+
     /**
-     * 모니터링 시작: 설정된 시간(5분)마다 반복해서 서버 상태를 체크합니다.
+     * 모니터링 시작: 프로젝트에 설정된 주기(기본 5분)마다 반복해서 서버 상태를 체크합니다.
      */
     public void startMonitoring(Long projectId) {
         TargetProject project = repository.findById(projectId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 프로젝트가 없습니다. ID: " + projectId));
 
-        if (activeTasks.containsKey(projectId)) return;
+        schedule(project, Duration.ZERO);
+    }
+
+    /**
+     * 묶음 시작: 여러 프로젝트의 첫 체크 시각을 restart-stagger 구간에 고르게 나눠 시작합니다.
+     * 수천 개를 한 번에 켜도 체크, 이력 저장, Gemini 호출이 한꺼번에 몰리지 않습니다.
+     *
+     * @return 새로 시작한 프로젝트 수
+     */
+    public int startMonitoring(List<TargetProject> projects) {
+        List<TargetProject> targets = projects.stream()
+                .filter(project -> !activeTasks.containsKey(project.getId()))
+                .toList();
+
+        int started = 0;
+        long staggerMillis = Duration.ofSeconds(restartStaggerSeconds).toMillis();
+        for (int i = 0; i < targets.size(); i++) {
+            Duration initialDelay = Duration.ofMillis(staggerMillis * i / targets.size());
+            if (schedule(targets.get(i), initialDelay)) started++;
+        }
+        log.info("묶음 시작: {}개 중 {}개 시작 ({}초에 걸쳐 분산)", projects.size(), started, restartStaggerSeconds);
+        return started;
+    }
+
+    private boolean schedule(TargetProject project, Duration initialDelay) {
+        Long projectId = project.getId();
+
+        // 점검 중인 프로젝트는 점검이 끝날 때 시작합니다.
+        if (suspensions.containsKey(projectId)) {
+            resumeAfterMaintenance.add(projectId);
+            log.info("점검 중이라 점검 종료 후 시작합니다: [{}]", project.getName());
+            return false;
+        }
+        if (activeTasks.containsKey(projectId)) return false;
 
-        // 5분마다 checkServerStatus 메서드를 실행하도록 예약
+        // 첫 체크 전에 DNS를 미리 조회해 둡니다.
+        serverProber.warmUp(project);
+
+        // 주기마다 checkServerStatus 메서드를 실행하도록 예약
+        // 스케줄러 스레드는 예약만 담당하고, 실제 체크는 가상 스레드 실행기에서 수행합니다.
         ScheduledFuture<?> task = taskScheduler.scheduleAtFixedRate(
-                () -> checkServerStatus(project),
-                Duration.ofMinutes(5)
+                () -> submitCheck(project),
+                Instant.now().plus(initialDelay),
+                checkInterval(project)
         );
 
-        activeTasks.put(projectId, task);
+        if (activeTasks.putIfAbsent(projectId, task) != null) {
+            task.cancel(false);
+            return false;
+        }
         log.info("비서 가동 시작: [{}] 감시 시작.", project.getName());
+        return true;
+    }
+
+    /**
+     * 체크 한 번을 실행기에 넘깁니다.
+     * 응답 마감(최대 15초)과 Gemini 분석(최대 20초)이 최소 주기(5초)보다 길 수 있으므로,
+     * 같은 프로젝트의 이전 체크가 아직 진행 중이면 이번 주기는 건너뜁니다.
+     * (겹쳐 실행되면 둘 다 같은 상태 구간을 보고 AI 호출, 이력, 알림을 두 번씩 만들게 됨)
+     */
+    private void submitCheck(TargetProject project) {
+        Long projectId = project.getId();
+        if (!checksInFlight.add(projectId)) {
+            log.debug("이전 체크가 진행 중이라 이번 주기를 건너뜁니다: [{}]", project.getName());
+            return;
+        }
+        try {
+            probeExecutor.execute(() -> {
+                try {
+                    checkServerStatus(project);
+                } finally {
+                    checksInFlight.remove(projectId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            checksInFlight.remove(projectId);
+            log.warn("체크 실행 거부 (종료 중): [{}]", project.getName());
+        }
+    }
+
+    private Duration checkInterval(TargetProject project) {
+        Integer seconds = project.getCheckIntervalSeconds();
+        if (seconds == null) return DEFAULT_INTERVAL;
+        Duration interval = Duration.ofSeconds(seconds);
+        return interval.compareTo(MIN_INTERVAL) < 0 ? MIN_INTERVAL : interval;
     }
 
     /**
-     * 모니터링 중지: 진행 중인 예약 작업을 취소합니다.
+     * 모니터링 중지: 진행 중인 예약 작업을 취소하고, 미니 차트 기록도 버립니다.
      */
     public void stopMonitoring(Long projectId) {
-        ScheduledFuture<?> task = activeTasks.get(projectId);
-        if (task != null) {
-            task.cancel(false);
-            activeTasks.remove(projectId);
-            log.info("비서 가동 중지: 프로젝트 ID {}", projectId);
+        resumeAfterMaintenance.remove(projectId);
+        if (cancel(projectId)) historyRunRecorder.close(projectId);
+        sparklineStore.remove(projectId);
+    }
+
+    /**
+     * 묶음 중지: DB 조회 없이 메모리의 예약 작업만 취소합니다.
+     * 남은 이력 카운트는 한 번에 모아 백그라운드에서 반영합니다.
+     *
+     * @return 실제로 중지한 프로젝트 수
+     */
+    public int stopMonitoring(Collection<Long> projectIds) {
+        List<Long> stopped = new ArrayList<>();
+        for (Long projectId : projectIds) {
+            resumeAfterMaintenance.remove(projectId);
+            if (cancel(projectId)) stopped.add(projectId);
+            sparklineStore.remove(projectId);
         }
+        historyRunRecorder.closeAll(stopped);
+        log.info("묶음 중지: {}개 중 {}개 중지", projectIds.size(), stopped.size());
+        return stopped.size();
+    }
+
+    private boolean cancel(Long projectId) {
+        ScheduledFuture<?> task = activeTasks.remove(projectId);
+        if (task == null) return false;
+        task.cancel(false);
+        log.info("비서 가동 중지: 프로젝트 ID {}", projectId);
+        return true;
     }
 
     /**
-     * [핵심 로직] 서버 상태 체크 및 Gemini AI 연동
-     * 1. 실제 URL에 접속하여 상태 코드(200, 500 등)를 가져옵니다.
-     * 2. 이전 상태와 비교하여 '상태가 변했을 때만' AI 답변을 새롭게 생성합니다.
+     * 점검 시작: 체크(와 그에 따른 AI 호출)를 멈추고, 감시 중이던 프로젝트는 점검 후 다시 시작하도록 기억합니다.
+     * 점검 구간이 겹치면 마지막 구간이 끝날 때까지 멈춰 있습니다.
+     * 스케줄러 스레드에서 불리므로, 멈춘 프로젝트의 남은 이력 카운트는 한 번에 모아 백그라운드에서 반영합니다.
      */
-    @Transactional
-    public void checkServerStatus(TargetProject project) {
-        int responseCode;
-        try {
-            // [수정 포인트] URI를 통해 URL 연결 객체를 생성합니다.
-            HttpURLConnection connection = (HttpURLConnection) URI.create(project.getUrl()).toURL().openConnection();
-            connection.setRequestMethod("GET");
-            connection.setConnectTimeout(5000); // 5초 안에 응답 없으면 에러 처리
+    public void suspend(Collection<Long> projectIds) {
+        List<Long> cancelled = new ArrayList<>();
+        for (Long projectId : projectIds) {
+            suspensions.merge(projectId, 1, Integer::sum);
+            if (cancel(projectId)) {
+                resumeAfterMaintenance.add(projectId);
+                cancelled.add(projectId);
+            }
+        }
+        historyRunRecorder.closeAll(cancelled);
+    }
 
-            // [추가 포인트] 중요! 실제 사이트(네이버 등) 차단 방지를 위한 '브라우저 신분증' 설정
-            // 이 설정이 없으면 네이버는 봇으로 인식하여 연결을 끊어버릴 수 있습니다(500 에러 유발).
-            connection.setRequestProperty("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36");
+    /**
+     * 점검 종료: 점검 전에 감시 중이던 프로젝트를 한 번의 조회로 불러와 분산 재시작합니다.
+     *
+     * @return 다시 시작한 프로젝트 수
+     */
+    public int resume(Collection<Long> projectIds) {
+        List<Long> toRestart = new ArrayList<>();
+        for (Long projectId : projectIds) {
+            boolean released = suspensions.computeIfPresent(projectId, (id, depth) -> depth > 1 ? depth - 1 : null) == null;
+            if (released && resumeAfterMaintenance.remove(projectId)) toRestart.add(projectId);
+        }
+        if (toRestart.isEmpty()) return 0;
+        return startMonitoring(repository.findAllById(toRestart));
+    }
 
-            responseCode = connection.getResponseCode();
+    /**
+     * 점검 중인 프로젝트인지 여부 (점검 중에는 AI 분석도 호출하지 않습니다)
+     */
+    public boolean isSuspended(Long projectId) {
+        return suspensions.containsKey(projectId);
+    }
 
-            // 참고: 네이버가 보안 페이지로 이동(302)시키는 경우도 정상(200)으로 간주합니다.
-            if (responseCode == 302 || responseCode == 301) responseCode = 200;
+    /**
+     * [핵심 로직] 서버 상태 체크 및 Gemini AI 연동
+     * 1. 설정된 체크 방식으로 접속하여 상태 코드(200, 500 등)를 가져옵니다.
+     * 2. 이전 상태와 비교하여 '상태가 변했을 때만' AI 답변을 새롭게 생성하고 이력 행을 저장합니다.
+     */
+    public void checkServerStatus(TargetProject project) {
+        // 점검 시작 직전에 예약된 체크가 늦게 실행되는 경우를 막습니다.
+        if (suspensions.containsKey(project.getId())) return;
 
-        } catch (Exception e) {
-            // 연결 중 오류 발생 시 500(장애)으로 처리
-            log.error("연결 실패 (장애 감지): {}", e.getMessage());
-            responseCode = 500;
+        // 프로젝트의 체크 방식(TCP / TLS / HTTP HEAD / HTTP GET)에 맞춰 상태를 확인합니다.
+        // 체크 구간은 JFR 이벤트로 남겨, 지연이 생긴 시점을 사후에 분석할 수 있게 합니다.
+        ProbeEvent probeEvent = new ProbeEvent();
+        probeEvent.begin();
+        ProbeResult result = serverProber.probe(project);
+        int responseCode = result.statusCode();
+        probeEvent.end();
+        if (probeEvent.shouldCommit()) {
+            probeEvent.projectId = project.getId();
+            probeEvent.projectName = project.getName();
+            probeEvent.probeType = String.valueOf(project.getProbeType());
+            probeEvent.statusCode = responseCode;
+            probeEvent.dnsMillis = result.dnsMillis();
+            probeEvent.latencyMillis = result.latencyMillis();
+            probeEvent.commit();
         }
+        log.debug("체크 완료 [{}]: 상태코드 {} (DNS {}ms, 응답 {}ms)",
+                project.getName(), responseCode, result.dnsMillis(), result.latencyMillis());
+
+        LocalDateTime checkedAt = LocalDateTime.now();
 
-        // 1. DB에서 가장 최근에 저장했던 모니터링 기록을 하나 가져옵니다.
-        MonitoringHistory lastHistory = monitoringHistoryRepository
-                .findFirstByTargetProjectIdOrderByCheckedAtDesc(project.getId()).orElse(null);
+        // 대시보드 미니 차트용으로 모든 체크 결과를 메모리 링 버퍼에 남깁니다. (DB 기록은 상태 구간 단위)
+        // 중지 직후 늦게 끝난 체크가 지운 기록을 되살리지 않도록, 감시 중일 때만 남깁니다.
+        if (activeTasks.containsKey(project.getId())) {
+            sparklineStore.record(project.getId(), Instant.now(), responseCode, result.latencyMillis());
+        }
 
-        String aiGuide;
+        // 1. 현재 진행 중인 상태 구간을 가져옵니다. (메모리 우선, 없으면 DB의 마지막 기록)
+        HistoryRunRecorder.OpenRun currentRun = historyRunRecorder.currentRun(project.getId());
 
         // 2. [기획 핵심] 상태 변화 감지 로직
-        // - 처음 체크하거나, 이전 상태와 지금 상태가 다를 때만 Gemini AI에게 물어봅니다.
-        if (lastHistory == null || lastHistory.getStatusCode() != responseCode) {
+        // - 처음 체크하거나, 이전 상태와 지금 상태가 다를 때만 Gemini AI에게 물어보고 새 기록을 남깁니다.
+        if (currentRun == null || currentRun.getStatusCode() != responseCode) {
             log.info("상태 변화 감지: {} -> {}. Gemini AI 분석 요청...",
-                    (lastHistory != null ? lastHistory.getStatusCode() : "최초 가동"), responseCode);
+                    (currentRun != null ? currentRun.getStatusCode() : "최초 가동"), responseCode);
+
+            StateTransitionEvent transition = new StateTransitionEvent();
+            if (transition.shouldCommit()) {
+                transition.projectId = project.getId();
+                transition.projectName = project.getName();
+                transition.previousStatus = currentRun != null ? currentRun.getStatusCode() : -1;
+                transition.newStatus = responseCode;
+                transition.commit();
+            }
 
             // GeminiService를 호출하여 상태에 맞는 응답 메시지를 생성합니다.
-            aiGuide = geminiService.getAiGuide(responseCode);
+            String aiGuide = geminiService.getAiGuide(responseCode);
+            historyRunRecorder.startRun(project, responseCode, aiGuide, checkedAt);
+            repository.updateStatus(project.getId(), responseCode, checkedAt);
+            log.info("모니터링 기록 저장 완료: 상태코드 {}", responseCode);
+
+            // 상태가 실제로 바뀌었거나 최초 체크부터 장애라면 알림을 보냅니다. (큐에 넣기만 하므로 체크를 늦추지 않음)
+            if (currentRun != null || responseCode != ProbeResult.OK) {
+                alertDispatcher.publish(new AlertEvent(project.getId(), project.getName(), project.getUrl(),
+                        currentRun != null ? currentRun.getStatusCode() : null, responseCode, aiGuide, checkedAt));
+            }
         } else {
-            // 상태가 변하지 않았다면 AI를 호출하지 않고, 이전 말풍선 메시지를 그대로 사용합니다. (비용/성능 절약)
-            aiGuide = lastHistory.getAiGuide();
+            // 상태가 변하지 않았다면 AI 호출도, 기록 저장도 하지 않고 체크 횟수만 올립니다. (비용/성능 절약)
+            historyRunRecorder.extend(currentRun, checkedAt);
         }
 
-        // 3. 프로젝트의 최신 상태 정보를 업데이트하고 기록을 저장합니다.
+        // 3. 프로젝트의 최신 상태 정보를 업데이트합니다.
+        // 감시 시작 때 읽어 둔 엔티티를 통째로 save(merge)하지 않고, 값이 바뀐 컬럼만 UPDATE 합니다.
+        // 상태가 그대로인 동안의 lastCheckTime은 HistoryRunRecorder가 이력과 함께 주기적으로 반영합니다.
         project.updateStatus(responseCode);
-        repository.save(project);
-
-        MonitoringHistory history = MonitoringHistory.builder()
-                .targetProject(project)
-                .statusCode(responseCode)
-                .checkedAt(LocalDateTime.now())
-                .aiGuide(aiGuide)
-                .build();
-
-        monitoringHistoryRepository.save(history);
-        log.info("모니터링 기록 저장 완료: 상태코드 {}", responseCode);
+        if (result.certExpiresAt() != null && !result.certExpiresAt().equals(project.getCertExpiresAt())) {
+            project.updateCertExpiry(result.certExpiresAt());
+            repository.updateCertExpiry(project.getId(), result.certExpiresAt());
+        }
+        if (result.bodyHash() != null && !result.bodyHash().equals(project.getLastBodyHash())) {
+            boolean changed = project.updateBodyHash(result.bodyHash());
+            repository.updateBodyHash(project.getId(), result.bodyHash(), changed ? project.getContentChangedAt() : null);
+            if (changed) log.info("콘텐츠 변경 감지: [{}] 본문 내용이 바뀌었습니다.", project.getName());
+        }
     }
 
     /**
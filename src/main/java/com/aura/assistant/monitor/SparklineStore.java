@@ -0,0 +1,120 @@
+package com.aura.assistant.monitor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * [SparklineStore]
+ * 역할: 프로젝트별 최근 체크 결과를 고정 크기 링 버퍼에 보관하여, 대시보드 미니 차트를 DB 조회 없이 제공합니다.
+ * 체크 한 건은 long 하나에 압축해 저장합니다.
+ * - 상위 32비트: 체크 시각 (epoch 초)
+ * - 다음 10비트: 상태 코드 (0 ~ 1023)
+ * - 하위 22비트: 응답 시간 ms (최대 약 70분, 넘으면 최댓값으로 저장)
+ * 기본 512칸이면 프로젝트당 4KB로, 5분 주기 기준 약 42시간 분량입니다.
+ */
+@Component
+public class SparklineStore {
+
+    private static final int STATUS_BITS = 10;
+    private static final int LATENCY_BITS = 22;
+    private static final long STATUS_MASK = (1L << STATUS_BITS) - 1;
+    private static final long LATENCY_MASK = (1L << LATENCY_BITS) - 1;
+
+    @Value("${aura.sparkline.capacity:512}")
+    private int capacity;
+
+    private final Map<Long, Ring> rings = new ConcurrentHashMap<>();
+
+    /**
+     * 체크 결과 한 건을 기록합니다. 가득 차면 가장 오래된 값을 덮어씁니다.
+     */
+    public void record(Long projectId, Instant checkedAt, int statusCode, long latencyMillis) {
+        rings.computeIfAbsent(projectId, id -> new Ring(capacity))
+                .add(pack(checkedAt.getEpochSecond(), statusCode, latencyMillis));
+    }
+
+    /**
+     * 감시를 멈추거나 삭제한 프로젝트의 기록을 버립니다.
+     */
+    public void remove(Long projectId) {
+        rings.remove(projectId);
+    }
+
+    /**
+     * 지정한 프로젝트들의 최근 기록을 오래된 순으로 돌려줍니다. (기록이 없는 프로젝트는 빠짐)
+     *
+     * @param points 프로젝트당 최대 개수 (0 이하이면 보관 중인 전체)
+     */
+    public Map<Long, Sparkline> snapshot(Collection<Long> projectIds, int points) {
+        Map<Long, Sparkline> result = new LinkedHashMap<>();
+        for (Long projectId : projectIds) {
+            Ring ring = rings.get(projectId);
+            if (ring != null) result.put(projectId, unpack(ring.copy(points)));
+        }
+        return result;
+    }
+
+    static long pack(long epochSecond, int statusCode, long latencyMillis) {
+        long status = Math.min(Math.max(statusCode, 0), STATUS_MASK);
+        long latency = Math.min(Math.max(latencyMillis, 0), LATENCY_MASK);
+        return (epochSecond << (STATUS_BITS + LATENCY_BITS)) | (status << LATENCY_BITS) | latency;
+    }
+
+    private static Sparkline unpack(long[] samples) {
+        long[] timestamps = new long[samples.length];
+        int[] statuses = new int[samples.length];
+        int[] latencies = new int[samples.length];
+        for (int i = 0; i < samples.length; i++) {
+            timestamps[i] = samples[i] >>> (STATUS_BITS + LATENCY_BITS);
+            statuses[i] = (int) ((samples[i] >>> LATENCY_BITS) & STATUS_MASK);
+            latencies[i] = (int) (samples[i] & LATENCY_MASK);
+        }
+        return new Sparkline(timestamps, statuses, latencies);
+    }
+
+    /**
+     * 한 프로젝트의 미니 차트 데이터 (같은 위치의 값이 한 건의 체크)
+     *
+     * @param timestamps 체크 시각 (epoch 초)
+     * @param statuses   상태 코드
+     * @param latencies  응답 시간 (ms)
+     */
+    public record Sparkline(long[] timestamps, int[] statuses, int[] latencies) {
+    }
+
+    /**
+     * 고정 크기 long 배열 링 버퍼. 체크 주기가 길어 경합이 거의 없으므로 단순 동기화로 충분합니다.
+     */
+    private static final class Ring {
+        private final long[] samples;
+        private int next;
+        private int size;
+
+        Ring(int capacity) {
+            this.samples = new long[capacity];
+        }
+
+        synchronized void add(long sample) {
+            samples[next] = sample;
+            next = (next + 1) % samples.length;
+            if (size < samples.length) size++;
+        }
+
+        synchronized long[] copy(int points) {
+            int count = points > 0 ? Math.min(points, size) : size;
+            long[] copy = new long[count];
+            int start = next - count;
+            if (start < 0) start += samples.length;
+            for (int i = 0; i < count; i++) {
+                copy[i] = samples[(start + i) % samples.length];
+            }
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.aura.assistant.monitor.gemini;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * [GeminiApi]
+ * Gemini generateContent API의 요청/응답 형식입니다.
+ * 응답을 Map으로 풀지 않고 필요한 필드만 가진 record로 바로 읽으므로, 형변환 없이 안전하고 할당도 적습니다.
+ * (사용하지 않는 필드는 무시합니다)
+ */
+public final class GeminiApi {
+
+    private GeminiApi() {
+    }
+
+    public record GenerateContentRequest(List<Content> contents) {
+        public static GenerateContentRequest of(String prompt) {
+            return new GenerateContentRequest(List.of(new Content(List.of(new Part(prompt)))));
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record GenerateContentResponse(List<Candidate> candidates) {
+
+        /**
+         * 첫 번째 후보의 첫 번째 텍스트를 꺼냅니다. 형식이 예상과 다르면 IllegalStateException을 던집니다.
+         */
+        public String text() {
+            if (candidates == null || candidates.isEmpty()) {
+                throw new IllegalStateException("AI 응답 형식 오류: candidates 없음");
+            }
+            Content content = candidates.getFirst().content();
+            if (content == null || content.parts() == null || content.parts().isEmpty()) {
+                throw new IllegalStateException("AI 응답 형식 오류: parts 없음");
+            }
+            return content.parts().getFirst().text();
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Candidate(Content content, String finishReason) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Content(List<Part> parts) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Part(String text) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.aura.assistant.monitor.gemini;
+
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * [GeminiClient]
+ * 역할: Gemini API 전용 HTTP 클라이언트입니다.
+ * - Reactor Netty 연결 풀을 사용해 연결을 재사용(keep-alive)하고, HTTPS에서는 HTTP/2를 우선 협상합니다.
+ * - 연결/응답 제한 시간을 두어 느린 응답이 호출 스레드를 무한정 붙잡지 않게 합니다.
+ * - API 키는 URL 쿼리가 아닌 x-goog-api-key 헤더로 보냅니다. (접속 로그 등에 키가 남지 않음)
+ */
+@Component
+public class GeminiClient {
+
+    private static final String API_KEY_HEADER = "x-goog-api-key";
+
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+
+    public GeminiClient(
+            WebClient.Builder webClientBuilder,
+            @Value("${google.ai.gemini.url}") String geminiUrl,
+            @Value("${google.ai.gemini.api-key}") String apiKey,
+            @Value("${aura.gemini.max-connections:50}") int maxConnections,
+            @Value("${aura.gemini.connect-timeout-millis:3000}") int connectTimeoutMillis,
+            @Value("${aura.gemini.response-timeout-seconds:20}") long responseTimeoutSeconds) {
+        // 유휴 연결은 서버가 먼저 끊기 전에 정리하고, 풀이 가득 차면 잠깐만 기다립니다.
+        this.connectionProvider = ConnectionProvider.builder("gemini")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofSeconds(5))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .evictInBackground(Duration.ofSeconds(60))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .responseTimeout(Duration.ofSeconds(responseTimeoutSeconds))
+                .compress(true);
+        // HTTP/2는 TLS(ALPN)에서만 협상하므로, https 주소일 때만 켭니다.
+        httpClient = geminiUrl.startsWith("https")
+                ? httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure()
+                : httpClient.protocol(HttpProtocol.HTTP11);
+
+        this.webClient = webClientBuilder
+                .baseUrl(geminiUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader(API_KEY_HEADER, apiKey)
+                .build();
+    }
+
+    /**
+     * 프롬프트 하나로 텍스트를 생성합니다. (논블로킹)
+     */
+    public Mono<String> generate(String prompt) {
+        return webClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(GeminiApi.GenerateContentRequest.of(prompt))
+                .retrieve()
+                .bodyToMono(GeminiApi.GenerateContentResponse.class)
+                .mapNotNull(GeminiApi.GenerateContentResponse::text);
+    }
+
+    /**
+     * 동기 호출용: 결과를 기다립니다. (가상 스레드/작업 스레드에서 호출)
+     * 연결, 풀 대기, 응답 단계마다 제한 시간이 있으므로 무한정 기다리지 않습니다.
+     */
+    public String generateBlocking(String prompt) {
+        return generate(prompt).block();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        connectionProvider.dispose();
+    }
+}
@@ -0,0 +1,256 @@
+package com.aura.assistant.monitor.probe;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * [ContentCheck]
+ * 역할: 응답 본문 한 건을 조각(chunk) 단위로 받아가며 콘텐츠 검사를 진행합니다.
+ * 본문 전체를 메모리에 올리지 않고, 들어오는 바이트마다 다음을 갱신합니다.
+ * - 키워드: 바이트 단위 KMP 매칭 (조각 경계에 걸친 키워드도 찾음)
+ * - 정규식: 검사 한도까지 디코딩한 문자 창(재사용 버퍼)에서 검색 (조각 경계에 걸린 멀티바이트 문자는 다음 조각과 이어서 디코딩)
+ * - JSON: Jackson 논블로킹 파서로 토큰을 읽으며 지정한 경로의 값을 비교
+ * - 해시: SHA-256을 조각마다 누적
+ * 한 번의 체크에서만 사용하며, 여러 스레드가 공유하지 않습니다.
+ */
+final class ContentCheck {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // 문자 하나의 최대 바이트 수보다 넉넉한 크기 (UTF-8은 최대 4바이트)
+    private static final int CARRY_CAPACITY = 16;
+
+    // 키워드 (KMP)
+    private final byte[] keyword;
+    private final int[] keywordFailure;
+    private int keywordMatched;
+    private boolean keywordFound;
+
+    // 정규식
+    private final Matcher matcher;
+    private final CharsetDecoder decoder;
+    private final CharBuffer window;
+    private final ByteBuffer carry; // 조각 끝에서 잘린 문자의 앞부분 바이트
+    private boolean regexFound;
+
+    // JSON 필드 검사
+    private final JsonPointer jsonPointer;
+    private final String jsonExpected; // null이면 필드 존재만 확인
+    private final JsonParser jsonParser;
+    private String jsonActual;
+    private boolean jsonSeen;
+    private boolean jsonBroken;
+
+    // 본문 해시
+    private final MessageDigest digest;
+
+    ContentCheck(String keyword, Pattern regex, String jsonAssertion, boolean hashBody,
+                 Charset charset, char[] regexWindow) {
+        this.keyword = keyword != null ? keyword.getBytes(charset) : null;
+        this.keywordFailure = this.keyword != null ? failureTable(this.keyword) : null;
+
+        if (regex != null) {
+            this.window = CharBuffer.wrap(regexWindow);
+            this.decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            this.matcher = regex.matcher("");
+            this.carry = ByteBuffer.allocate(CARRY_CAPACITY);
+        } else {
+            this.window = null;
+            this.decoder = null;
+            this.matcher = null;
+            this.carry = null;
+        }
+
+        if (jsonAssertion != null) {
+            int separator = jsonAssertion.indexOf('=');
+            String path = (separator >= 0 ? jsonAssertion.substring(0, separator) : jsonAssertion).strip();
+            this.jsonPointer = JsonPointer.compile("/" + path.replace('.', '/'));
+            this.jsonExpected = separator >= 0 ? jsonAssertion.substring(separator + 1).strip() : null;
+            try {
+                this.jsonParser = JSON_FACTORY.createNonBlockingByteArrayParser();
+            } catch (Exception e) {
+                throw new IllegalStateException("JSON 파서를 만들 수 없습니다.", e);
+            }
+        } else {
+            this.jsonPointer = null;
+            this.jsonExpected = null;
+            this.jsonParser = null;
+        }
+
+        try {
+            this.digest = hashBody ? MessageDigest.getInstance("SHA-256") : null;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 본문 조각 하나를 반영합니다. buffer는 호출 후 재사용되므로 참조를 남기지 않습니다.
+     */
+    void update(byte[] buffer, int offset, int length) {
+        if (keyword != null && !keywordFound) matchKeyword(buffer, offset, length);
+        if (matcher != null && !regexFound) matchRegex(buffer, offset, length);
+        if (jsonParser != null && !jsonSeen && !jsonBroken) feedJson(buffer, offset, length);
+        if (digest != null) digest.update(buffer, offset, length);
+    }
+
+    /**
+     * 더 읽을 필요가 없는지 여부 (모든 검사가 끝났고 해시도 필요 없을 때)
+     */
+    boolean isComplete() {
+        return digest == null
+                && (keyword == null || keywordFound)
+                && (matcher == null || regexFound)
+                && (jsonParser == null || jsonSeen || jsonBroken);
+    }
+
+    /**
+     * 검사를 마치고 결과를 돌려줍니다.
+     */
+    Outcome finish() {
+        String hash = digest != null ? HexFormat.of().formatHex(digest.digest()) : null;
+        if (jsonParser != null) {
+            // 본문 끝에 걸린 마지막 값(예: 최상위 숫자)도 읽히도록 입력 종료를 알립니다.
+            if (!jsonSeen && !jsonBroken) {
+                ((ByteArrayFeeder) jsonParser.getNonBlockingInputFeeder()).endOfInput();
+                readJsonTokens();
+            }
+            try {
+                jsonParser.close();
+            } catch (Exception ignored) {
+            }
+        }
+
+        if (matcher != null && !regexFound) finishRegex();
+
+        if (keyword != null && !keywordFound) return Outcome.failed("키워드를 찾을 수 없습니다.", hash);
+        if (matcher != null && !regexFound) return Outcome.failed("정규식과 일치하는 내용이 없습니다.", hash);
+        if (jsonParser != null) {
+            if (!jsonSeen) {
+                return Outcome.failed(jsonBroken ? "JSON 형식이 아닙니다." : "JSON 필드를 찾을 수 없습니다: " + jsonPointer, hash);
+            }
+            if (jsonExpected != null && !jsonExpected.equals(jsonActual)) {
+                return Outcome.failed("JSON 값 불일치: " + jsonPointer + " (기대 " + jsonExpected + ", 실제 " + jsonActual + ")", hash);
+            }
+        }
+        return new Outcome(true, null, hash);
+    }
+
+    private void matchKeyword(byte[] buffer, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            while (keywordMatched > 0 && buffer[i] != keyword[keywordMatched]) {
+                keywordMatched = keywordFailure[keywordMatched - 1];
+            }
+            if (buffer[i] == keyword[keywordMatched]) keywordMatched++;
+            if (keywordMatched == keyword.length) {
+                keywordFound = true;
+                return;
+            }
+        }
+    }
+
+    private void matchRegex(byte[] buffer, int offset, int length) {
+        if (!window.hasRemaining()) return;
+        ByteBuffer input = ByteBuffer.wrap(buffer, offset, length);
+
+        // 1. 앞 조각에서 잘린 문자가 있으면, 새 조각의 바이트를 하나씩 붙여 그 문자부터 완성합니다.
+        while (carry.position() > 0 && input.hasRemaining() && window.hasRemaining()) {
+            carry.put(input.get()).flip();
+            decoder.decode(carry, window, false);
+            carry.compact();
+        }
+
+        // 2. 나머지를 디코딩하고, 끝에서 잘린 문자의 바이트는 다음 조각을 위해 남겨둡니다.
+        decoder.decode(input, window, false);
+        if (window.hasRemaining() && input.remaining() <= carry.remaining()) carry.put(input);
+
+        search();
+    }
+
+    /**
+     * 본문이 끝났으면 남은 바이트(잘린 문자)를 대체 문자로 마무리하고 한 번 더 검색합니다.
+     */
+    private void finishRegex() {
+        carry.flip();
+        decoder.decode(carry, window, true);
+        decoder.flush(window);
+        search();
+    }
+
+    private void search() {
+        // 지금까지 디코딩된 부분 [0, position)에서 검색합니다.
+        CharBuffer decoded = window.duplicate().flip();
+        regexFound = matcher.reset(decoded).find();
+    }
+
+    private void feedJson(byte[] buffer, int offset, int length) {
+        try {
+            ((ByteArrayFeeder) jsonParser.getNonBlockingInputFeeder()).feedInput(buffer, offset, offset + length);
+        } catch (Exception e) {
+            jsonBroken = true;
+            return;
+        }
+        readJsonTokens();
+    }
+
+    private void readJsonTokens() {
+        try {
+            JsonToken token;
+            while ((token = jsonParser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (token == JsonToken.FIELD_NAME || token.isStructEnd()) continue;
+
+                // 객체/배열 시작 토큰은 부모 위치가 곧 그 값의 경로입니다.
+                JsonStreamContext context = token.isStructStart()
+                        ? jsonParser.getParsingContext().getParent()
+                        : jsonParser.getParsingContext();
+                if (context != null && jsonPointer.equals(context.pathAsPointer())) {
+                    jsonSeen = true;
+                    jsonActual = token.isScalarValue() ? jsonParser.getText() : token.asString();
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            jsonBroken = true;
+        }
+    }
+
+    private static int[] failureTable(byte[] pattern) {
+        int[] failure = new int[pattern.length];
+        for (int i = 1, k = 0; i < pattern.length; i++) {
+            while (k > 0 && pattern[i] != pattern[k]) k = failure[k - 1];
+            if (pattern[i] == pattern[k]) k++;
+            failure[i] = k;
+        }
+        return failure;
+    }
+
+    /**
+     * 콘텐츠 검사 결과
+     *
+     * @param passed   모든 검사를 통과했는지 여부
+     * @param failure  실패 사유 (통과 시 null)
+     * @param bodyHash 본문 해시 (변경 감지를 켠 경우)
+     */
+    record Outcome(boolean passed, String failure, String bodyHash) {
+        static Outcome failed(String failure, String bodyHash) {
+            return new Outcome(false, failure, bodyHash);
+        }
+    }
+}
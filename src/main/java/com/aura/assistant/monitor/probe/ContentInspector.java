@@ -0,0 +1,122 @@
+package com.aura.assistant.monitor.probe;
+
+import com.aura.assistant.domain.TargetProject;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.core5.http.HttpEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.regex.Pattern;
+
+/**
+ * [ContentInspector]
+ * 역할: HTTP 응답 본문의 앞부분만 스트리밍으로 읽으며 프로젝트에 설정된 콘텐츠 검사를 수행합니다.
+ * - 읽기 버퍼는 풀에서 빌려 쓰고 돌려주므로, 체크마다 큰 메모리를 새로 잡지 않습니다.
+ * - 검사 한도(기본 64KB)에 닿거나 검사가 모두 끝나면 바로 연결을 끊어, 본문 전체를 내려받지 않습니다.
+ */
+@Slf4j
+@Component
+public class ContentInspector {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int DEFAULT_MAX_KB = 64;
+    private static final int LIMIT_MAX_KB = 64;
+    private static final int POOL_SIZE = 32;
+    private static final int MAX_PATTERNS = 256;
+
+    // 재사용 버퍼 풀 (비어 있으면 새로 만들고, 가득 차 있으면 돌려받은 버퍼는 버립니다)
+    private final BlockingQueue<byte[]> bytePool = new ArrayBlockingQueue<>(POOL_SIZE);
+    private final BlockingQueue<char[]> charPool = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    // 정규식은 체크마다 컴파일하지 않도록 캐시합니다. 사용자가 정한 문자열이 키이므로 최근에 쓰인 MAX_PATTERNS개만 보관합니다.
+    private final Map<String, Pattern> patterns = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+            return size() > MAX_PATTERNS;
+        }
+    });
+
+    /**
+     * 프로젝트에 콘텐츠 검사가 하나라도 설정되어 있는지 여부
+     */
+    public boolean isConfigured(TargetProject project) {
+        return hasText(project.getContentKeyword())
+                || hasText(project.getContentRegex())
+                || hasText(project.getJsonAssertion())
+                || Boolean.TRUE.equals(project.getDetectContentChange());
+    }
+
+    /**
+     * 응답 본문을 검사합니다. 연결은 ProbeHttpClient가 끊습니다. (남은 본문은 받지 않음)
+     */
+    ContentCheck.Outcome inspect(HttpEntity entity, TargetProject project) throws Exception {
+        int maxBytes = Math.min(project.getContentMaxKb() != null ? project.getContentMaxKb() : DEFAULT_MAX_KB, LIMIT_MAX_KB) * 1024;
+        boolean useRegex = hasText(project.getContentRegex());
+
+        byte[] buffer = borrowBytes();
+        char[] window = useRegex ? borrowChars() : null;
+        try {
+            // 본문 스트림을 닫으면 남은 본문을 끝까지 읽으므로 여기서는 닫지 않습니다.
+            InputStream body = entity.getContent();
+            ContentCheck check = new ContentCheck(
+                    hasText(project.getContentKeyword()) ? project.getContentKeyword() : null,
+                    useRegex ? patterns.computeIfAbsent(project.getContentRegex(), Pattern::compile) : null,
+                    hasText(project.getJsonAssertion()) ? project.getJsonAssertion() : null,
+                    Boolean.TRUE.equals(project.getDetectContentChange()),
+                    charset(entity.getContentType()),
+                    window);
+
+            int total = 0;
+            int read;
+            while (total < maxBytes && !check.isComplete()
+                    && (read = body.read(buffer, 0, Math.min(buffer.length, maxBytes - total))) != -1) {
+                check.update(buffer, 0, read);
+                total += read;
+            }
+            return check.finish();
+        } finally {
+            bytePool.offer(buffer);
+            if (window != null) charPool.offer(window);
+        }
+    }
+
+    private byte[] borrowBytes() {
+        byte[] buffer = bytePool.poll();
+        return buffer != null ? buffer : new byte[BUFFER_SIZE];
+    }
+
+    private char[] borrowChars() {
+        char[] window = charPool.poll();
+        return window != null ? window : new char[LIMIT_MAX_KB * 1024];
+    }
+
+    /**
+     * Content-Type 헤더의 charset을 사용하고, 없거나 잘못되었으면 UTF-8로 봅니다.
+     */
+    private Charset charset(String contentType) {
+        if (contentType != null) {
+            for (String part : contentType.split(";")) {
+                String trimmed = part.strip();
+                if (trimmed.regionMatches(true, 0, "charset=", 0, 8)) {
+                    try {
+                        return Charset.forName(trimmed.substring(8).replace("\"", ""));
+                    } catch (Exception e) {
+                        log.debug("알 수 없는 charset: {}", trimmed);
+                    }
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,241 @@
+package com.aura.assistant.monitor.probe;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.resolver.dns.DnsNameResolver;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import io.netty.resolver.dns.NoopDnsCache;
+import io.netty.resolver.dns.NoopDnsCnameCache;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.Future;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * [DnsCache]
+ * 역할: 상태 체크 전용 DNS 캐시입니다.
+ * - 성공한 조회는 TTL 동안, 실패한 조회도 짧은 TTL 동안(negative cache) 기억합니다.
+ * - TTL이 끝나기 전에(refresh-ahead) 백그라운드에서 미리 다시 조회하므로, 체크가 DNS를 기다리는 일이 거의 없습니다.
+ * - 조회는 Netty DNS 리졸버로 논블로킹으로 하고 최대 대기 시간을 두어, 느린 리졸버가 체크 전체를 붙잡지 않게 합니다.
+ * - JVM 자체 캐시(InetAddress, networkaddress.cache.ttl)를 거치지 않고 매번 실제로 조회하므로,
+ *   미리 조회한 결과가 JVM 캐시에 남아 있던 오래된 주소로 채워지는 일이 없습니다. (/etc/hosts와 resolv.conf는 그대로 따름)
+ * - HTTP 체크도 ProbeHttpClient를 통해 이 캐시의 주소로 연결합니다.
+ * 참고: TTL은 레코드 값 대신 설정값을 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DnsCache {
+
+    private final TaskScheduler taskScheduler;
+
+    @Value("${aura.dns.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${aura.dns.negative-ttl-seconds:10}")
+    private long negativeTtlSeconds;
+
+    // TTL의 이 비율이 지나면 조회 결과를 돌려주면서 백그라운드 갱신을 시작합니다.
+    @Value("${aura.dns.refresh-ahead-ratio:0.8}")
+    private double refreshAheadRatio;
+
+    @Value("${aura.dns.timeout-millis:2000}")
+    private long timeoutMillis;
+
+    // 이 시간 동안 사용되지 않은 항목은 정리합니다.
+    private static final Duration IDLE_EVICTION = Duration.ofMinutes(30);
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+
+    private EventLoopGroup eventLoop;
+    private DnsNameResolver resolver;
+
+    @PostConstruct
+    void start() {
+        // 리졸버 자체 캐시는 끄고, 캐시는 이 클래스에서만 관리합니다.
+        eventLoop = new NioEventLoopGroup(1, new DefaultThreadFactory("Aura-DNS", true));
+        resolver = new DnsNameResolverBuilder(eventLoop.next())
+                .datagramChannelType(NioDatagramChannel.class)
+                .resolveCache(NoopDnsCache.INSTANCE)
+                .cnameCache(NoopDnsCnameCache.INSTANCE)
+                .queryTimeoutMillis(timeoutMillis)
+                .build();
+        taskScheduler.scheduleAtFixedRate(this::maintain, Duration.ofSeconds(Math.max(1, ttlSeconds / 3)));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (resolver != null) resolver.close();
+        if (eventLoop != null) eventLoop.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 호스트를 조회합니다. 캐시에 있으면 즉시, 없으면 최대 timeoutMillis까지 기다립니다.
+     */
+    public Lookup resolve(String host) {
+        long startedAt = System.nanoTime();
+        Entry entry = entries.get(host);
+        long now = System.nanoTime();
+
+        if (entry != null && now < entry.expiresAt()) {
+            entry.touch(now);
+            if (entry.needsRefresh(now)) refresh(host);
+            return entry.toLookup(elapsedMillis(startedAt), true);
+        }
+
+        try {
+            Entry resolved = refresh(host).get(timeoutMillis, TimeUnit.MILLISECONDS);
+            resolved.touch(System.nanoTime());
+            return resolved.toLookup(elapsedMillis(startedAt), false);
+        } catch (TimeoutException e) {
+            return Lookup.failure("DNS 조회 시간 초과 (" + timeoutMillis + "ms)", elapsedMillis(startedAt));
+        } catch (Exception e) {
+            return Lookup.failure(e.getMessage(), elapsedMillis(startedAt));
+        }
+    }
+
+    /**
+     * 감시 시작 전에 미리 조회해 두어 첫 체크부터 캐시를 사용하게 합니다.
+     */
+    public void prefetch(String host) {
+        if (host != null && !entries.containsKey(host)) refresh(host);
+    }
+
+    /**
+     * 같은 호스트의 조회는 한 번만 진행하고, 결과를 캐시에 넣습니다. (실패도 negative TTL로 저장)
+     * 갱신할 때마다 DNS 서버에 실제로 다시 묻습니다.
+     */
+    private CompletableFuture<Entry> refresh(String host) {
+        CompletableFuture<Entry> created = new CompletableFuture<>();
+        CompletableFuture<Entry> existing = inFlight.putIfAbsent(host, created);
+        if (existing != null) return existing;
+
+        Future<List<InetAddress>> lookup;
+        try {
+            lookup = resolver.resolveAll(host);
+        } catch (RuntimeException e) {
+            // 조회가 시작되지도 못하면 리스너가 불리지 않으므로, 여기서 정리해야 같은 호스트의 뒤 요청이 묶이지 않습니다.
+            inFlight.remove(host, created);
+            created.completeExceptionally(e);
+            return created;
+        }
+        lookup.addListener((Future<List<InetAddress>> future) -> {
+            Entry entry;
+            if (future.isSuccess()) {
+                entry = Entry.success(future.getNow().toArray(InetAddress[]::new), Duration.ofSeconds(ttlSeconds), refreshAheadRatio);
+            } else if (future.cause() instanceof UnknownHostException) {
+                entry = Entry.failure("DNS 조회 실패: " + host, Duration.ofSeconds(negativeTtlSeconds));
+            } else {
+                entry = Entry.failure("DNS 조회 오류: " + future.cause().getMessage(), Duration.ofSeconds(negativeTtlSeconds));
+            }
+
+            Entry previous = entries.get(host);
+            if (previous != null) entry.touch(previous.lastAccess);
+            entries.put(host, entry);
+            inFlight.remove(host, created);
+            created.complete(entry);
+        });
+        return created;
+    }
+
+    /**
+     * 최근에 쓰인 항목은 만료 전에 갱신하고, 오래 쓰이지 않은 항목은 정리합니다.
+     */
+    private void maintain() {
+        long now = System.nanoTime();
+        entries.forEach((host, entry) -> {
+            if (now - entry.lastAccess > IDLE_EVICTION.toNanos()) {
+                entries.remove(host, entry);
+            } else if (entry.needsRefresh(now)) {
+                refresh(host);
+            }
+        });
+    }
+
+    private static long elapsedMillis(long startedAt) {
+        return Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+    }
+
+    /**
+     * 조회 결과
+     *
+     * @param addresses 조회된 주소 (실패 시 null)
+     * @param error     실패 사유 (성공 시 null)
+     * @param millis    이번 조회에 걸린 시간(ms). 캐시 적중이면 거의 0입니다.
+     * @param cached    캐시에서 바로 돌려준 결과인지 여부
+     */
+    public record Lookup(InetAddress[] addresses, String error, long millis, boolean cached) {
+
+        static Lookup failure(String error, long millis) {
+            return new Lookup(null, error, millis, false);
+        }
+
+        public boolean resolved() {
+            return addresses != null && addresses.length > 0;
+        }
+
+        public InetAddress address() {
+            return addresses[0];
+        }
+    }
+
+    private static final class Entry {
+        private final InetAddress[] addresses;
+        private final String error;
+        private final long createdAt;
+        private final long refreshAt;
+        private final long expiresAt;
+        private volatile long lastAccess;
+
+        private Entry(InetAddress[] addresses, String error, long ttlNanos, long refreshAheadNanos) {
+            this.addresses = addresses;
+            this.error = error;
+            this.createdAt = System.nanoTime();
+            this.refreshAt = createdAt + refreshAheadNanos;
+            this.expiresAt = createdAt + ttlNanos;
+            this.lastAccess = createdAt;
+        }
+
+        static Entry success(InetAddress[] addresses, Duration ttl, double refreshAheadRatio) {
+            return new Entry(addresses, null, ttl.toNanos(), (long) (ttl.toNanos() * refreshAheadRatio));
+        }
+
+        // 실패 결과는 미리 갱신하지 않고 만료 후 다시 조회합니다.
+        static Entry failure(String error, Duration ttl) {
+            return new Entry(null, error, ttl.toNanos(), ttl.toNanos());
+        }
+
+        long expiresAt() {
+            return expiresAt;
+        }
+
+        boolean needsRefresh(long now) {
+            return now >= refreshAt;
+        }
+
+        void touch(long now) {
+            lastAccess = now;
+        }
+
+        Lookup toLookup(long millis, boolean cached) {
+            return new Lookup(addresses, error, millis, cached);
+        }
+    }
+}
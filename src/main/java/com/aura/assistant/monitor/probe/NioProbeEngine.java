@@ -0,0 +1,315 @@
+package com.aura.assistant.monitor.probe;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLParameters;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * [NioProbeEngine]
+ * 역할: 논블로킹 NIO 채널로 TCP 연결 / TLS 핸드셰이크 체크를 수행합니다.
+ * 하나의 셀렉터 스레드가 수천 개의 연결을 동시에 진행하므로, 체크 대상이 늘어나도 스레드가 늘지 않습니다.
+ */
+@Slf4j
+@Component
+public class NioProbeEngine {
+
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    // 셀렉터가 한 번에 대기하는 최대 시간 (타임아웃 검사 주기)
+    private static final long SELECT_TIMEOUT_MS = 100;
+
+    private final Selector selector;
+    private final Queue<ProbeTask> pending = new ConcurrentLinkedQueue<>();
+    private final Thread selectorThread;
+    private volatile boolean running = true;
+
+    public NioProbeEngine() throws IOException {
+        this.selector = Selector.open();
+        this.selectorThread = Thread.ofPlatform().name("Aura-Probe-Selector").daemon().start(this::runLoop);
+    }
+
+    /**
+     * TCP 연결만 확인합니다. 연결이 맺어지면 200, 실패/타임아웃이면 500입니다.
+     */
+    public CompletableFuture<ProbeResult> tcpConnect(InetSocketAddress address, Duration timeout) {
+        return submit(new ProbeTask(address, null, timeout));
+    }
+
+    /**
+     * TCP 연결 후 TLS 핸드셰이크까지 확인하고, 서버 인증서의 만료 시각을 함께 돌려줍니다.
+     * 인증서 검증(신뢰 체인, 호스트명)에 실패하면 500으로 처리됩니다.
+     */
+    public CompletableFuture<ProbeResult> tlsHandshake(InetSocketAddress address, String host, Duration timeout) {
+        return submit(new ProbeTask(address, host, timeout));
+    }
+
+    private CompletableFuture<ProbeResult> submit(ProbeTask task) {
+        if (!running) {
+            task.future.complete(ProbeResult.failure(0));
+            return task.future;
+        }
+        pending.add(task);
+        selector.wakeup();
+        return task.future;
+    }
+
+    /**
+     * 셀렉터 스레드의 메인 루프
+     * 1. 새로 들어온 체크 요청을 채널에 등록합니다.
+     * 2. 준비된 채널(연결 완료, 읽기/쓰기 가능)을 처리합니다.
+     * 3. 마감 시간이 지난 체크를 타임아웃으로 종료합니다.
+     */
+    private void runLoop() {
+        while (running) {
+            try {
+                registerPending();
+                selector.select(SELECT_TIMEOUT_MS);
+
+                var iterator = selector.selectedKeys().iterator();
+                while (iterator.hasNext()) {
+                    SelectionKey key = iterator.next();
+                    iterator.remove();
+                    handle(key);
+                }
+                expireTimedOut();
+            } catch (ClosedSelectorException e) {
+                return;
+            } catch (Exception e) {
+                log.error("프로브 셀렉터 루프 오류: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void registerPending() {
+        ProbeTask task;
+        while ((task = pending.poll()) != null) {
+            try {
+                SocketChannel channel = SocketChannel.open();
+                channel.configureBlocking(false);
+                task.channel = channel;
+                task.startedAt = System.nanoTime();
+                task.key = channel.register(selector, SelectionKey.OP_CONNECT, task);
+
+                if (channel.connect(task.address)) {
+                    onConnected(task);
+                }
+            } catch (Exception e) {
+                fail(task, e);
+            }
+        }
+    }
+
+    private void handle(SelectionKey key) {
+        ProbeTask task = (ProbeTask) key.attachment();
+        try {
+            if (!key.isValid()) return;
+            if (key.isConnectable()) {
+                if (task.channel.finishConnect()) {
+                    onConnected(task);
+                }
+            } else if (task.engine != null) {
+                driveHandshake(task);
+            }
+        } catch (Exception e) {
+            fail(task, e);
+        }
+    }
+
+    private void onConnected(ProbeTask task) throws Exception {
+        if (task.host == null) {
+            succeed(task, null);
+            return;
+        }
+
+        // TLS: 호스트명으로 SSLEngine을 만들어 SNI 전송과 호스트명 검증이 함께 이루어지게 합니다.
+        SSLEngine engine = SSLContext.getDefault().createSSLEngine(task.host, task.address.getPort());
+        engine.setUseClientMode(true);
+        SSLParameters parameters = engine.getSSLParameters();
+        parameters.setEndpointIdentificationAlgorithm("HTTPS");
+        engine.setSSLParameters(parameters);
+
+        int packetSize = engine.getSession().getPacketBufferSize();
+        task.engine = engine;
+        task.netOut = ByteBuffer.allocate(packetSize);
+        task.netIn = ByteBuffer.allocate(packetSize);
+        task.appIn = ByteBuffer.allocate(engine.getSession().getApplicationBufferSize());
+
+        engine.beginHandshake();
+        driveHandshake(task);
+    }
+
+    /**
+     * SSLEngine의 핸드셰이크 상태에 따라 암호화 데이터를 주고받습니다.
+     * 소켓이 당장 읽기/쓰기 불가능하면 관심 이벤트만 바꾸고 셀렉터로 돌아갑니다.
+     */
+    private void driveHandshake(ProbeTask task) throws Exception {
+        SSLEngine engine = task.engine;
+        while (true) {
+            // 1. 아직 보내지 못한 데이터가 있으면 먼저 전송합니다.
+            if (task.netOut.position() > 0) {
+                task.netOut.flip();
+                task.channel.write(task.netOut);
+                boolean remaining = task.netOut.hasRemaining();
+                task.netOut.compact();
+                if (remaining) {
+                    task.key.interestOps(SelectionKey.OP_WRITE);
+                    return;
+                }
+            }
+
+            switch (engine.getHandshakeStatus()) {
+                case FINISHED, NOT_HANDSHAKING -> {
+                    succeed(task, certificateExpiry(engine));
+                    return;
+                }
+                case NEED_TASK -> {
+                    Runnable delegated;
+                    while ((delegated = engine.getDelegatedTask()) != null) {
+                        delegated.run();
+                    }
+                }
+                case NEED_WRAP -> {
+                    SSLEngineResult result = engine.wrap(EMPTY, task.netOut);
+                    if (result.getStatus() == SSLEngineResult.Status.CLOSED) {
+                        throw new SSLException("핸드셰이크 중 연결이 종료되었습니다.");
+                    }
+                }
+                case NEED_UNWRAP, NEED_UNWRAP_AGAIN -> {
+                    task.netIn.flip();
+                    SSLEngineResult result = engine.unwrap(task.netIn, task.appIn);
+                    task.netIn.compact();
+
+                    switch (result.getStatus()) {
+                        case BUFFER_UNDERFLOW -> {
+                            int read = task.channel.read(task.netIn);
+                            if (read < 0) throw new EOFException("핸드셰이크 중 서버가 연결을 끊었습니다.");
+                            if (read == 0) {
+                                task.key.interestOps(SelectionKey.OP_READ);
+                                return;
+                            }
+                        }
+                        // 핸드셰이크만 확인하므로 애플리케이션 데이터는 버립니다.
+                        case BUFFER_OVERFLOW -> task.appIn.clear();
+                        case CLOSED -> throw new SSLException("핸드셰이크 중 연결이 종료되었습니다.");
+                        case OK -> { }
+                    }
+                }
+            }
+        }
+    }
+
+    private LocalDateTime certificateExpiry(SSLEngine engine) {
+        try {
+            Certificate[] certificates = engine.getSession().getPeerCertificates();
+            if (certificates.length > 0 && certificates[0] instanceof X509Certificate x509) {
+                return LocalDateTime.ofInstant(x509.getNotAfter().toInstant(), ZoneId.systemDefault());
+            }
+        } catch (Exception e) {
+            log.debug("인증서 정보 수집 실패: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private void expireTimedOut() {
+        long now = System.nanoTime();
+        for (SelectionKey key : selector.keys()) {
+            if (key.isValid() && key.attachment() instanceof ProbeTask task && now - task.deadline > 0) {
+                fail(task, new SocketTimeoutException("체크 시간 초과"));
+            }
+        }
+    }
+
+    private void succeed(ProbeTask task, LocalDateTime certExpiresAt) {
+        close(task);
+        task.future.complete(new ProbeResult(ProbeResult.OK, task.elapsedMillis(), 0, certExpiresAt, null));
+    }
+
+    private void fail(ProbeTask task, Exception e) {
+        close(task);
+        log.debug("연결 체크 실패 [{}]: {}", task.address, e.getMessage());
+        task.future.complete(ProbeResult.failure(task.elapsedMillis()));
+    }
+
+    private void close(ProbeTask task) {
+        if (task.key != null) task.key.cancel();
+        if (task.channel != null) {
+            try {
+                task.channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        running = false;
+        selector.wakeup();
+        try {
+            selectorThread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof ProbeTask task) {
+                fail(task, new IOException("프로브 엔진 종료"));
+            }
+        }
+        ProbeTask task;
+        while ((task = pending.poll()) != null) {
+            task.future.complete(ProbeResult.failure(0));
+        }
+        selector.close();
+    }
+
+    /**
+     * 진행 중인 체크 한 건의 상태 (셀렉터 스레드에서만 접근합니다)
+     */
+    private static final class ProbeTask {
+        final InetSocketAddress address;
+        final String host; // null이면 TCP 체크, 값이 있으면 TLS 체크
+        final long deadline;
+        final CompletableFuture<ProbeResult> future = new CompletableFuture<>();
+
+        long startedAt;
+        SocketChannel channel;
+        SelectionKey key;
+        SSLEngine engine;
+        ByteBuffer netOut;
+        ByteBuffer netIn;
+        ByteBuffer appIn;
+
+        ProbeTask(InetSocketAddress address, String host, Duration timeout) {
+            this.address = address;
+            this.host = host;
+            this.startedAt = System.nanoTime();
+            this.deadline = startedAt + timeout.toNanos();
+        }
+
+        long elapsedMillis() {
+            return Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+        }
+    }
+}
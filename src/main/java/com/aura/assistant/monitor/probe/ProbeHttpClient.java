@@ -0,0 +1,133 @@
+package com.aura.assistant.monitor.probe;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.DnsResolver;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * [ProbeHttpClient]
+ * 역할: HTTP 상태 체크 전용 클라이언트입니다.
+ * - 호스트 주소는 JVM 리졸버 대신 DnsCache에서 가져오므로, DNS 조회 시간이 응답 시간에 섞이지 않고
+ *   DNS 실패는 UnknownHostException으로 구분됩니다. (TLS의 SNI와 인증서 확인은 원래 호스트 이름 기준)
+ * - 체크마다 새 연결을 맺어(keep-alive 재사용 안 함) 실제 접속 가능 여부를 확인하고,
+ *   본문을 다 읽지 않고 닫으면 남은 본문을 받지 않고 연결을 끊습니다.
+ * - 연결/읽기 제한 시간과 별도로 요청 전체의 마감 시간을 두어, 조금씩 계속 보내는 느린 서버도 체크를 오래 붙잡지 못합니다.
+ */
+@Component
+public class ProbeHttpClient {
+
+    // 실제 사이트(네이버 등)가 봇으로 보고 연결을 끊지 않도록 브라우저처럼 보냅니다.
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
+
+    private final CloseableHttpClient httpClient;
+    private final TaskScheduler taskScheduler;
+    private final long deadlineMillis;
+
+    public ProbeHttpClient(
+            DnsCache dnsCache,
+            TaskScheduler taskScheduler,
+            @Value("${aura.probe.http.max-connections:500}") int maxConnections,
+            @Value("${aura.probe.http.connect-timeout-millis:5000}") long connectTimeoutMillis,
+            @Value("${aura.probe.http.read-timeout-millis:5000}") long readTimeoutMillis,
+            @Value("${aura.probe.http.deadline-millis:15000}") long deadlineMillis) {
+        this.taskScheduler = taskScheduler;
+        this.deadlineMillis = deadlineMillis;
+
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                .build();
+
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setDnsResolver(new CachedDnsResolver(dnsCache))
+                        .setDefaultConnectionConfig(connectionConfig)
+                        .setMaxConnTotal(maxConnections)
+                        .setMaxConnPerRoute(maxConnections)
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .build())
+                .setConnectionReuseStrategy((request, response, context) -> false)
+                .setUserAgent(USER_AGENT)
+                .disableAutomaticRetries()
+                .disableCookieManagement()
+                .build();
+    }
+
+    /**
+     * 요청을 보내고 응답을 reader로 넘긴 뒤 연결을 끊습니다.
+     * 응답을 그냥 닫으면 남은 본문을 끝까지 읽어 버리므로, 먼저 요청을 취소해 연결을 바로 끊습니다.
+     * 마감 시간이 지나면 요청을 취소하므로, 진행 중인 연결/읽기는 예외로 끝납니다.
+     *
+     * @throws UnknownHostException DnsCache에서 호스트를 찾지 못한 경우 (리다이렉트 대상 포함)
+     */
+    <T> T execute(String method, URI uri, ResponseReader<T> reader) throws Exception {
+        HttpUriRequestBase request = new HttpUriRequestBase(method, uri);
+        ScheduledFuture<?> deadline = taskScheduler.schedule(request::cancel, Instant.now().plusMillis(deadlineMillis));
+        ClassicHttpResponse response = null;
+        try {
+            response = httpClient.executeOpen(null, request, null);
+            return reader.read(response);
+        } finally {
+            deadline.cancel(false);
+            request.cancel();
+            if (response != null) {
+                try {
+                    response.close();
+                } catch (IOException ignored) {
+                    // 이미 끊은 연결이므로 닫는 중 오류는 무시합니다.
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        httpClient.close();
+    }
+
+    /**
+     * 받은 응답을 처리합니다. 본문 스트림은 닫지 않아도 됩니다. (execute가 연결째 끊음)
+     */
+    @FunctionalInterface
+    interface ResponseReader<T> {
+        T read(ClassicHttpResponse response) throws Exception;
+    }
+
+    /**
+     * 연결할 주소를 DnsCache에서 가져옵니다. (ServerProber가 먼저 조회하므로 보통 캐시 적중)
+     */
+    private record CachedDnsResolver(DnsCache dnsCache) implements DnsResolver {
+
+        @Override
+        public InetAddress[] resolve(String host) throws UnknownHostException {
+            DnsCache.Lookup lookup = dnsCache.resolve(host);
+            if (!lookup.resolved()) throw new UnknownHostException(lookup.error());
+            return lookup.addresses();
+        }
+
+        @Override
+        public String resolveCanonicalHostname(String host) {
+            return host;
+        }
+    }
+}
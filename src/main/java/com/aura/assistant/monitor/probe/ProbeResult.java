@@ -0,0 +1,41 @@
+package com.aura.assistant.monitor.probe;
+
+import java.time.LocalDateTime;
+
+/**
+ * [ProbeResult]
+ * 역할: 한 번의 상태 체크 결과를 담는 불변 객체입니다.
+ *
+ * @param statusCode    HTTP 응답 코드 (TCP/TLS는 성공 200, 실패 500, DNS 조회 실패는 530, 콘텐츠 검사 실패는 422로 환산)
+ * @param latencyMillis DNS 조회를 뺀 체크 시간(ms) - 서버 자체의 응답 속도
+ * @param dnsMillis     DNS 조회에 걸린 시간(ms) - 캐시 적중이면 거의 0
+ * @param certExpiresAt TLS 체크 시 수집한 인증서 만료 시각 (그 외에는 null)
+ * @param bodyHash      콘텐츠 변경 감지를 켠 경우 본문 앞부분의 SHA-256 해시 (그 외에는 null)
+ */
+public record ProbeResult(int statusCode, long latencyMillis, long dnsMillis, LocalDateTime certExpiresAt, String bodyHash) {
+
+    public static final int OK = 200;
+    public static final int FAILURE = 500;
+
+    // 응답은 왔지만 본문이 기대와 다를 때 (키워드/정규식/JSON 검사 실패)
+    public static final int CONTENT_MISMATCH = 422;
+
+    // 서버 장애(500)와 구분하기 위한 DNS 조회 실패 코드 (origin DNS error 관례를 따름)
+    public static final int DNS_FAILURE = 530;
+
+    public static ProbeResult of(int statusCode, long latencyMillis) {
+        return new ProbeResult(statusCode, latencyMillis, 0, null, null);
+    }
+
+    public static ProbeResult failure(long latencyMillis) {
+        return new ProbeResult(FAILURE, latencyMillis, 0, null, null);
+    }
+
+    public static ProbeResult dnsFailure(long dnsMillis) {
+        return new ProbeResult(DNS_FAILURE, 0, dnsMillis, null, null);
+    }
+
+    public ProbeResult withDnsMillis(long dnsMillis) {
+        return new ProbeResult(statusCode, latencyMillis, dnsMillis, certExpiresAt, bodyHash);
+    }
+}
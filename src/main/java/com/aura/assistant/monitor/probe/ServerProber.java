@@ -0,0 +1,140 @@
+package com.aura.assistant.monitor.probe;
+
+import com.aura.assistant.domain.ProbeType;
+import com.aura.assistant.domain.TargetProject;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.time.Duration;
+
+/**
+ * [ServerProber]
+ * 역할: 프로젝트에 설정된 체크 방식(ProbeType)에 맞춰 실제 상태 체크를 수행합니다.
+ * - TCP / TLS: NioProbeEngine의 논블로킹 채널로 연결/핸드셰이크만 확인 (가벼움)
+ * - HTTP_HEAD / HTTP_GET: ProbeHttpClient로 응답 코드를 확인 (DnsCache의 주소로 연결)
+ * - HTTP_GET + 콘텐츠 검사: 본문 앞부분을 스트리밍으로 읽어 키워드/정규식/JSON/해시를 확인 (ContentInspector)
+ * 모든 방식은 DnsCache로 먼저 호스트를 조회하고, DNS 시간/실패를 따로 보고합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ServerProber {
+
+    // 5초 안에 응답 없으면 에러 처리
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final NioProbeEngine nioProbeEngine;
+    private final DnsCache dnsCache;
+    private final ContentInspector contentInspector;
+    private final ProbeHttpClient probeHttpClient;
+
+    /**
+     * 프로젝트의 체크 방식에 따라 상태를 확인합니다. 호출 스레드는 결과가 나올 때까지 대기합니다.
+     * DNS 조회는 DnsCache로 먼저 따로 수행하므로, 응답 시간에는 리졸버 지연이 섞이지 않습니다.
+     */
+    public ProbeResult probe(TargetProject project) {
+        ProbeType type = project.getProbeType() != null ? project.getProbeType() : ProbeType.HTTP_GET;
+        long startedAt = System.nanoTime();
+        try {
+            URI uri = URI.create(project.getUrl());
+            if (uri.getHost() == null) {
+                throw new IllegalArgumentException("호스트를 알 수 없는 주소입니다: " + uri);
+            }
+
+            // 1. DNS 조회 (캐시 우선). 실패는 서버 장애(500)와 구분하여 530으로 보고합니다.
+            DnsCache.Lookup lookup = dnsCache.resolve(uri.getHost());
+            if (!lookup.resolved()) {
+                log.error("DNS 조회 실패 (장애 감지): {} ({}ms)", lookup.error(), lookup.millis());
+                return ProbeResult.dnsFailure(lookup.millis());
+            }
+
+            // 2. 조회된 주소로 실제 체크
+            startedAt = System.nanoTime();
+            ProbeResult result = switch (type) {
+                case TCP -> nioProbeEngine.tcpConnect(socketAddress(uri, lookup, false), TIMEOUT).join();
+                case TLS -> nioProbeEngine.tlsHandshake(socketAddress(uri, lookup, true), uri.getHost(), TIMEOUT).join();
+                case HTTP_HEAD -> httpProbe(project, uri, "HEAD", startedAt);
+                case HTTP_GET -> httpProbe(project, uri, "GET", startedAt);
+            };
+            return result.withDnsMillis(lookup.millis());
+        } catch (UnknownHostException e) {
+            // 리다이렉트된 호스트의 DNS 조회 실패도 서버 장애와 구분합니다.
+            log.error("DNS 조회 실패 (장애 감지): {}", e.getMessage());
+            return ProbeResult.dnsFailure(elapsedMillis(startedAt));
+        } catch (Exception e) {
+            // 연결 중 오류 발생 시 500(장애)으로 처리
+            log.error("연결 실패 (장애 감지): {}", e.getMessage());
+            return ProbeResult.failure(elapsedMillis(startedAt));
+        }
+    }
+
+    /**
+     * 감시 시작 전에 준비 작업을 합니다. (DNS 미리 조회)
+     */
+    public void warmUp(TargetProject project) {
+        try {
+            dnsCache.prefetch(URI.create(project.getUrl()).getHost());
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 감시 주소입니다: {}", project.getUrl());
+        }
+    }
+
+    private ProbeResult httpProbe(TargetProject project, URI uri, String method, long startedAt) throws Exception {
+        // 처리가 끝나면 연결을 끊습니다. (본문은 필요한 만큼만 읽음)
+        return probeHttpClient.execute(method, uri, response -> {
+            int responseCode = response.getCode();
+
+            // 콘텐츠 검사가 설정된 경우: 실제 본문(2xx)이 기대한 내용인지까지 확인합니다.
+            if ("GET".equals(method) && contentInspector.isConfigured(project)) {
+                return contentProbe(project, response, responseCode, startedAt);
+            }
+
+            // 참고: 네이버가 보안 페이지로 이동(302)시키는 경우도 정상(200)으로 간주합니다.
+            if (responseCode == 302 || responseCode == 301) responseCode = ProbeResult.OK;
+
+            return ProbeResult.of(responseCode, elapsedMillis(startedAt));
+        });
+    }
+
+    private ProbeResult contentProbe(TargetProject project, ClassicHttpResponse response, int responseCode, long startedAt) throws Exception {
+        // 에러 응답은 상태 코드 그대로 보고합니다.
+        if (responseCode >= 400) {
+            return ProbeResult.of(responseCode, elapsedMillis(startedAt));
+        }
+        // 리다이렉트만 돌아오면 검사할 본문이 없으므로 콘텐츠 검사 실패로 봅니다.
+        if (responseCode < 200 || responseCode >= 300 || response.getEntity() == null) {
+            log.warn("콘텐츠 검사 실패 [{}]: 본문 없는 응답 ({})", project.getName(), responseCode);
+            return ProbeResult.of(ProbeResult.CONTENT_MISMATCH, elapsedMillis(startedAt));
+        }
+
+        ContentCheck.Outcome outcome = contentInspector.inspect(response.getEntity(), project);
+        int statusCode = responseCode;
+        if (!outcome.passed()) {
+            log.warn("콘텐츠 검사 실패 [{}]: {}", project.getName(), outcome.failure());
+            statusCode = ProbeResult.CONTENT_MISMATCH;
+        }
+        return new ProbeResult(statusCode, elapsedMillis(startedAt), 0, null, outcome.bodyHash());
+    }
+
+    /**
+     * URL에서 호스트와 포트를 꺼냅니다. 포트가 없으면 TLS 체크이거나 https면 443, 그 외에는 80을 사용합니다.
+     * 예) https://example.com -> example.com:443, tcp://db.internal:3306 -> db.internal:3306
+     */
+    private InetSocketAddress socketAddress(URI uri, DnsCache.Lookup lookup, boolean tls) {
+        int port = uri.getPort();
+        if (port < 0) {
+            port = (tls || "https".equalsIgnoreCase(uri.getScheme())) ? 443 : 80;
+        }
+        // 이미 조회된 주소를 사용하므로 연결 시 DNS를 다시 타지 않습니다.
+        return new InetSocketAddress(lookup.address(), port);
+    }
+
+    private long elapsedMillis(long startedAt) {
+        return Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+    }
+}
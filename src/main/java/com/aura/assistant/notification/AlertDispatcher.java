@@ -0,0 +1,177 @@
+package com.aura.assistant.notification;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [AlertDispatcher]
+ * 역할: 상태 변화 알림을 상태 체크 흐름과 분리하여 비동기로 발송합니다.
+ * 1. publish()는 제한된 크기의 큐에 넣기만 하고 즉시 반환합니다. (큐가 가득 차면 버리고 기록만 남김)
+ * 2. 모으기 스레드가 알림이 잠잠해질 때까지(coalesce window 동안 새 알림 없음) 묶어, 여러 건이면 요약 메시지 하나로 만듭니다.
+ *    알림이 끊이지 않아도 첫 알림으로부터 최대 지연(coalesce max delay)이 지나면 그때까지 모인 것을 보냅니다.
+ * 3. 채널마다 별도의 작업 풀에서 발송하므로, 느린 채널이 다른 채널이나 상태 체크를 막지 않습니다.
+ * 4. 발송 실패 시 지수 백오프(1s, 2s, 4s ...)로 재시도합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlertDispatcher {
+
+    private final List<NotificationChannel> channels;
+
+    @Value("${aura.alert.queue-capacity:1000}")
+    private int queueCapacity;
+
+    // 마지막 알림 이후 이 시간 동안 새 알림이 없으면 모은 알림을 발송합니다. (새 알림이 오면 다시 기다림)
+    @Value("${aura.alert.coalesce-window-millis:5000}")
+    private long coalesceWindowMillis;
+
+    // 알림이 계속 들어와도 첫 알림으로부터 이 시간이 지나면 발송합니다.
+    // 대규모 장애는 체크 주기와 재시작 분산(stagger) 시간에 걸쳐 퍼져서 감지되므로, 그보다 길게 잡습니다.
+    @Value("${aura.alert.coalesce-max-delay-millis:120000}")
+    private long coalesceMaxDelayMillis;
+
+    @Value("${aura.alert.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${aura.alert.initial-backoff-millis:1000}")
+    private long initialBackoffMillis;
+
+    // 채널별 동시 발송 수 / 채널별 대기 가능한 묶음 수
+    @Value("${aura.alert.channel-workers:2}")
+    private int channelWorkers;
+
+    @Value("${aura.alert.channel-queue-capacity:100}")
+    private int channelQueueCapacity;
+
+    private BlockingQueue<AlertEvent> queue;
+    private final Map<NotificationChannel, ExecutorService> channelPools = new LinkedHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private Thread coalescer;
+    private volatile boolean running = true;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        for (NotificationChannel channel : channels) {
+            if (!channel.isEnabled()) continue;
+            channelPools.put(channel, new ThreadPoolExecutor(
+                    channelWorkers, channelWorkers, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(channelQueueCapacity),
+                    Thread.ofVirtual().name("Aura-Alert-" + channel.name() + "-", 0).factory()));
+            log.info("알림 채널 활성화: {}", channel.name());
+        }
+        coalescer = Thread.ofVirtual().name("Aura-Alert-Coalescer").start(this::coalesceLoop);
+    }
+
+    /**
+     * 알림을 발송 대기열에 넣습니다. 절대 블로킹하지 않으므로 상태 체크 속도에 영향을 주지 않습니다.
+     */
+    public void publish(AlertEvent event) {
+        if (channelPools.isEmpty()) return;
+        if (!queue.offer(event)) {
+            dropped.increment();
+            log.warn("알림 대기열이 가득 차 알림을 버립니다: {} (누적 {}건)", event.projectName(), dropped.sum());
+        }
+    }
+
+    /**
+     * 첫 알림이 들어오면, 새 알림이 올 때마다 coalesce window만큼 더 기다리며(debounce) 모은 뒤 한 번에 발송합니다.
+     * 대규모 장애로 수백 건이 몇십 초에 걸쳐 바뀌어도 채널마다 메시지는 한 통(최대 지연을 넘기면 몇 통)입니다.
+     */
+    private void coalesceLoop() {
+        while (running) {
+            try {
+                AlertEvent first = queue.take();
+                List<AlertEvent> batch = new ArrayList<>();
+                batch.add(first);
+
+                long windowNanos = TimeUnit.MILLISECONDS.toNanos(coalesceWindowMillis);
+                long maxDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(coalesceMaxDelayMillis);
+                long deadline = Math.min(System.nanoTime() + windowNanos, maxDeadline);
+                long remaining;
+                while ((remaining = deadline - System.nanoTime()) > 0) {
+                    AlertEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                    queue.drainTo(batch);
+                    deadline = Math.min(System.nanoTime() + windowNanos, maxDeadline);
+                }
+                dispatch(List.copyOf(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("알림 묶음 처리 오류: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void dispatch(List<AlertEvent> batch) {
+        channelPools.forEach((channel, pool) -> {
+            try {
+                pool.execute(() -> deliver(channel, batch));
+            } catch (RejectedExecutionException e) {
+                dropped.add(batch.size());
+                log.warn("[{}] 채널 발송 대기열이 가득 차 알림 {}건을 버립니다.", channel.name(), batch.size());
+            }
+        });
+    }
+
+    /**
+     * 한 채널로 발송하고, 실패하면 지수 백오프(+약간의 랜덤 지연)로 재시도합니다.
+     */
+    private void deliver(NotificationChannel channel, List<AlertEvent> batch) {
+        long backoff = initialBackoffMillis;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                channel.send(batch);
+                log.info("[{}] 알림 발송 완료: {}건", channel.name(), batch.size());
+                return;
+            } catch (Exception e) {
+                if (attempt == maxAttempts) {
+                    log.error("[{}] 알림 발송 최종 실패 ({}회 시도): {}", channel.name(), attempt, e.getMessage());
+                    return;
+                }
+                log.warn("[{}] 알림 발송 실패 ({}회차), {}ms 후 재시도: {}", channel.name(), attempt, backoff, e.getMessage());
+                try {
+                    Thread.sleep(Duration.ofMillis(backoff + ThreadLocalRandom.current().nextLong(backoff / 4 + 1)));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoff *= 2;
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        if (coalescer != null) coalescer.interrupt();
+        for (ExecutorService pool : channelPools.values()) {
+            pool.shutdown();
+        }
+        for (ExecutorService pool : channelPools.values()) {
+            pool.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.aura.assistant.notification;
+
+import java.time.LocalDateTime;
+
+/**
+ * [AlertEvent]
+ * 역할: 감시 대상의 상태 변화 한 건을 알림 채널로 전달하기 위한 불변 객체입니다.
+ *
+ * @param previousStatus 이전 상태 코드 (최초 체크면 null)
+ * @param currentStatus  새 상태 코드
+ * @param aiGuide        상태 변화 시 생성된 Gemini 조치 가이드
+ */
+public record AlertEvent(
+        Long projectId,
+        String projectName,
+        String url,
+        Integer previousStatus,
+        int currentStatus,
+        String aiGuide,
+        LocalDateTime occurredAt
+) {
+
+    // 장애(비정상) 상태로 바뀐 알림인지 여부
+    public boolean isFailure() {
+        return currentStatus != 200;
+    }
+}
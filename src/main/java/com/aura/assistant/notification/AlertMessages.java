@@ -0,0 +1,54 @@
+package com.aura.assistant.notification;
+
+import java.util.List;
+
+/**
+ * [AlertMessages]
+ * 역할: 채널 공통으로 사용하는 알림 문구를 만듭니다.
+ */
+final class AlertMessages {
+
+    // 요약 메시지에 나열할 최대 건수 (대규모 장애 시 메시지가 너무 길어지지 않게)
+    private static final int MAX_DIGEST_LINES = 50;
+
+    private AlertMessages() {
+    }
+
+    static String title(List<AlertEvent> events) {
+        if (events.size() == 1) {
+            AlertEvent event = events.getFirst();
+            return String.format("[Aura3D] %s %s (%s)", event.projectName(),
+                    event.isFailure() ? "장애 감지" : "정상 복구", transition(event));
+        }
+        long failures = events.stream().filter(AlertEvent::isFailure).count();
+        return String.format("[Aura3D] 상태 변화 %d건 (장애 %d건 / 복구 %d건)",
+                events.size(), failures, events.size() - failures);
+    }
+
+    static String body(List<AlertEvent> events) {
+        StringBuilder body = new StringBuilder(title(events)).append('\n');
+        if (events.size() == 1) {
+            AlertEvent event = events.getFirst();
+            body.append("주소: ").append(event.url()).append('\n')
+                    .append("시각: ").append(event.occurredAt()).append('\n');
+            if (event.aiGuide() != null) {
+                body.append("AI 가이드: ").append(event.aiGuide()).append('\n');
+            }
+            return body.toString();
+        }
+
+        events.stream().limit(MAX_DIGEST_LINES).forEach(event -> body
+                .append("- ").append(event.projectName())
+                .append(" (").append(event.url()).append("): ")
+                .append(transition(event)).append('\n'));
+        if (events.size() > MAX_DIGEST_LINES) {
+            body.append("... 외 ").append(events.size() - MAX_DIGEST_LINES).append("건").append('\n');
+        }
+        return body.toString();
+    }
+
+    private static String transition(AlertEvent event) {
+        String previous = event.previousStatus() != null ? String.valueOf(event.previousStatus()) : "최초";
+        return previous + " -> " + event.currentStatus();
+    }
+}
@@ -0,0 +1,41 @@
+package com.aura.assistant.notification;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [ChatWebhookChannel]
+ * 역할: 채팅 서비스의 Incoming Webhook으로 사람이 읽기 좋은 문장을 보냅니다.
+ * Slack / Google Chat은 {"text": ...}, Discord는 {"content": ...} 형식을 사용합니다.
+ * 설정: aura.alert.chat.url, aura.alert.chat.format (text | content)
+ */
+@Component
+public class ChatWebhookChannel implements NotificationChannel {
+
+    private final RestTemplate restTemplate = WebhookChannel.createRestTemplate();
+
+    @Value("${aura.alert.chat.url:}")
+    private String url;
+
+    @Value("${aura.alert.chat.format:text}")
+    private String messageField;
+
+    @Override
+    public String name() {
+        return "chat";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return !url.isBlank();
+    }
+
+    @Override
+    public void send(List<AlertEvent> events) {
+        restTemplate.postForEntity(url, Map.of(messageField, AlertMessages.body(events)), Void.class);
+    }
+}
@@ -0,0 +1,49 @@
+package com.aura.assistant.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * [EmailChannel]
+ * 역할: SMTP 메일로 알림을 보냅니다.
+ * 설정: spring.mail.host 등 SMTP 설정 + aura.alert.email.to (쉼표로 여러 명), aura.alert.email.from
+ * (spring.mail.host가 없으면 JavaMailSender가 만들어지지 않으므로 채널이 자동으로 꺼집니다.)
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailChannel implements NotificationChannel {
+
+    private final ObjectProvider<JavaMailSender> mailSender;
+
+    @Value("${aura.alert.email.to:}")
+    private String[] recipients;
+
+    @Value("${aura.alert.email.from:aura3d@localhost}")
+    private String from;
+
+    @Override
+    public String name() {
+        return "email";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return recipients.length > 0 && mailSender.getIfAvailable() != null;
+    }
+
+    @Override
+    public void send(List<AlertEvent> events) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(from);
+        message.setTo(recipients);
+        message.setSubject(AlertMessages.title(events));
+        message.setText(AlertMessages.body(events));
+        mailSender.getObject().send(message);
+    }
+}
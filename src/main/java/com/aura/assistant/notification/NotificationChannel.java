@@ -0,0 +1,26 @@
+package com.aura.assistant.notification;
+
+import java.util.List;
+
+/**
+ * [NotificationChannel]
+ * 역할: 알림을 실제로 전달하는 채널(웹훅, 메일, 채팅)의 공통 규칙입니다.
+ * 이벤트가 한 건이면 단건 메시지, 여러 건이면 요약(digest) 메시지 하나로 보냅니다.
+ */
+public interface NotificationChannel {
+
+    /**
+     * 로그와 작업 스레드 이름에 쓰일 채널 이름
+     */
+    String name();
+
+    /**
+     * 설정(주소, 수신자 등)이 갖춰져 있어 실제로 발송 가능한지 여부
+     */
+    boolean isEnabled();
+
+    /**
+     * 알림을 발송합니다. 실패하면 예외를 던지고, 재시도는 AlertDispatcher가 담당합니다.
+     */
+    void send(List<AlertEvent> events) throws Exception;
+}
@@ -0,0 +1,53 @@
+package com.aura.assistant.notification;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [WebhookChannel]
+ * 역할: 설정된 주소로 상태 변화 이벤트를 JSON으로 POST 합니다. (자체 시스템 연동용)
+ * 설정: aura.alert.webhook.url
+ */
+@Component
+public class WebhookChannel implements NotificationChannel {
+
+    private final RestTemplate restTemplate = createRestTemplate();
+
+    @Value("${aura.alert.webhook.url:}")
+    private String url;
+
+    /**
+     * 알림 전송용 RestTemplate (응답이 늦은 수신 서버 때문에 작업 스레드가 오래 묶이지 않게 타임아웃 설정)
+     */
+    static RestTemplate createRestTemplate() {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(3000);
+        requestFactory.setReadTimeout(5000);
+        return new RestTemplate(requestFactory);
+    }
+
+    @Override
+    public String name() {
+        return "webhook";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return !url.isBlank();
+    }
+
+    @Override
+    public void send(List<AlertEvent> events) {
+        Map<String, Object> payload = Map.of(
+                "type", events.size() == 1 ? "alert" : "digest",
+                "title", AlertMessages.title(events),
+                "events", events
+        );
+        restTemplate.postForEntity(url, payload, Void.class);
+    }
+}
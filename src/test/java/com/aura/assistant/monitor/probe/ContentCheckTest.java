@@ -0,0 +1,215 @@
+package com.aura.assistant.monitor.probe;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 본문을 여러 조각으로 나눠 넣어도 한 번에 넣은 것과 같은 결과가 나오는지 확인합니다.
+ */
+class ContentCheckTest {
+
+    // --- 키워드 (KMP) ---
+
+    @Test
+    void 조각_경계에_걸친_키워드를_찾는다() {
+        ContentCheck check = keyword("healthy");
+
+        feed(check, "status: hea", "lt", "hy!");
+
+        assertThat(check.isComplete()).isTrue();
+        assertThat(check.finish().passed()).isTrue();
+    }
+
+    @Test
+    void 접두사가_반복되는_키워드도_놓치지_않는다() {
+        // 단순 비교라면 "aaab"에서 첫 "aab" 시도가 실패한 뒤 한 칸 밀린 위치를 건너뛰게 됩니다.
+        ContentCheck check = keyword("aab");
+
+        feedBytewise(check, "xaaab");
+
+        assertThat(check.finish().passed()).isTrue();
+    }
+
+    @Test
+    void 키워드가_없으면_실패한다() {
+        ContentCheck check = keyword("healthy");
+
+        feed(check, "status: heal", "th check failed");
+
+        ContentCheck.Outcome outcome = check.finish();
+        assertThat(outcome.passed()).isFalse();
+        assertThat(outcome.failure()).contains("키워드");
+    }
+
+    @Test
+    void 멀티바이트_키워드를_바이트_단위로_찾는다() {
+        ContentCheck check = keyword("정상");
+
+        feedBytewise(check, "서버 상태: 정상");
+
+        assertThat(check.finish().passed()).isTrue();
+    }
+
+    // --- 정규식 (조각 경계의 멀티바이트 문자) ---
+
+    @Test
+    void 조각_경계에서_잘린_UTF8_문자를_이어서_디코딩한다() {
+        ContentCheck check = regex("상태: 정상 \\(\\d+ms\\)");
+
+        feedBytewise(check, "<p>상태: 정상 (12ms)</p>");
+
+        assertThat(check.finish().passed()).isTrue();
+    }
+
+    @Test
+    void 본문_끝에서_잘린_문자는_대체_문자로_마무리한다() {
+        ContentCheck check = regex("끝�$");
+        byte[] body = "끝정".getBytes(StandardCharsets.UTF_8);
+
+        // "정"의 앞 두 바이트만 들어오고 본문이 끝난 경우
+        check.update(body, 0, body.length - 1);
+
+        assertThat(check.finish().passed()).isTrue();
+    }
+
+    @Test
+    void 정규식과_일치하지_않으면_실패한다() {
+        ContentCheck check = regex("version: \\d+\\.\\d+");
+
+        feed(check, "version: unknown");
+
+        assertThat(check.finish().failure()).contains("정규식");
+    }
+
+    // --- JSON 경로 ---
+
+    @Test
+    void 중첩된_JSON_필드_값을_비교한다() {
+        ContentCheck check = json("status.db=UP");
+
+        feedBytewise(check, "{\"status\":{\"app\":\"UP\",\"db\":\"UP\"}}");
+
+        assertThat(check.isComplete()).isTrue();
+        assertThat(check.finish().passed()).isTrue();
+    }
+
+    @Test
+    void 배열_인덱스로_JSON_값을_찾는다() {
+        ContentCheck check = json("items.1.name=beta");
+
+        feed(check, "{\"items\":[{\"name\":\"al", "pha\"},{\"name\":\"beta\"}]}");
+
+        assertThat(check.finish().passed()).isTrue();
+    }
+
+    @Test
+    void JSON_값이_다르면_실제_값을_알려준다() {
+        ContentCheck check = json("status.db=UP");
+
+        feed(check, "{\"status\":{\"db\":\"DOWN\"}}");
+
+        ContentCheck.Outcome outcome = check.finish();
+        assertThat(outcome.passed()).isFalse();
+        assertThat(outcome.failure()).contains("기대 UP", "실제 DOWN");
+    }
+
+    @Test
+    void 값_없이_경로만_주면_필드_존재만_확인한다() {
+        ContentCheck present = json("data");
+        feed(present, "{\"data\":{\"count\":3}}");
+        assertThat(present.finish().passed()).isTrue();
+
+        ContentCheck missing = json("data");
+        feed(missing, "{\"error\":\"nope\"}");
+        assertThat(missing.finish().failure()).contains("JSON 필드를 찾을 수 없습니다");
+    }
+
+    @Test
+    void JSON이_아니면_형식_오류로_실패한다() {
+        ContentCheck check = json("status=UP");
+
+        feed(check, "<html>502 Bad Gateway</html>");
+
+        assertThat(check.finish().failure()).isEqualTo("JSON 형식이 아닙니다.");
+    }
+
+    // --- 조각 단위 처리 전체 ---
+
+    @Test
+    void 조각_크기와_관계없이_같은_해시를_만든다() throws Exception {
+        String body = "{\"status\":\"UP\",\"message\":\"정상 동작 중\"}".repeat(50);
+        String expected = HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8)));
+
+        for (int chunkSize : new int[]{1, 3, 7, 64, 8192}) {
+            ContentCheck check = new ContentCheck(null, null, null, true, StandardCharsets.UTF_8, null);
+            feedInChunks(check, body, chunkSize);
+            assertThat(check.finish().bodyHash()).as("chunk size %d", chunkSize).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void 모든_검사가_끝나면_더_읽지_않아도_된다() {
+        ContentCheck check = new ContentCheck("UP", Pattern.compile("\"status\""), "status=UP",
+                false, StandardCharsets.UTF_8, new char[1024]);
+
+        assertThat(check.isComplete()).isFalse();
+        feed(check, "{\"status\":\"UP\"");
+        assertThat(check.isComplete()).isTrue();
+        assertThat(check.finish().passed()).isTrue();
+    }
+
+    @Test
+    void 응답_charset으로_키워드를_인코딩한다() {
+        Charset eucKr = Charset.forName("EUC-KR");
+        ContentCheck check = new ContentCheck("정상", null, null, false, eucKr, null);
+        byte[] body = "상태: 정상".getBytes(eucKr);
+
+        check.update(body, 0, body.length);
+
+        assertThat(check.finish().passed()).isTrue();
+    }
+
+    private static ContentCheck keyword(String keyword) {
+        return new ContentCheck(keyword, null, null, false, StandardCharsets.UTF_8, null);
+    }
+
+    private static ContentCheck regex(String regex) {
+        return new ContentCheck(null, Pattern.compile(regex), null, false, StandardCharsets.UTF_8, new char[1024]);
+    }
+
+    private static ContentCheck json(String assertion) {
+        return new ContentCheck(null, null, assertion, false, StandardCharsets.UTF_8, null);
+    }
+
+    private static void feed(ContentCheck check, String... chunks) {
+        for (String chunk : chunks) {
+            byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+            check.update(bytes, 0, bytes.length);
+        }
+    }
+
+    private static void feedBytewise(ContentCheck check, String body) {
+        feedInChunks(check, body, 1);
+    }
+
+    private static void feedInChunks(ContentCheck check, String body, int chunkSize) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        // 실제 읽기처럼 같은 버퍼를 재사용해, 이전 조각을 참조하면 드러나도록 합니다.
+        byte[] buffer = new byte[chunkSize];
+        for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+            int length = Math.min(chunkSize, bytes.length - offset);
+            System.arraycopy(bytes, offset, buffer, 0, length);
+            check.update(buffer, 0, length);
+            Arrays.fill(buffer, (byte) 0);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.aura.assistant.notification;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class AlertDispatcherTest {
+
+    private final RecordingChannel channel = new RecordingChannel();
+    private AlertDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void 간격을_두고_이어지는_알림도_잠잠해질_때까지_한_통으로_묶는다() throws InterruptedException {
+        dispatcher = start(500, 10_000);
+
+        // 첫 알림부터 1초 넘게 이어지므로, 고정 창(500ms)이었다면 여러 통으로 나뉘었을 흐름
+        for (int i = 0; i < 6; i++) {
+            dispatcher.publish(event(i));
+            Thread.sleep(200);
+        }
+
+        await().until(() -> !channel.batches.isEmpty());
+        Thread.sleep(500);
+        assertThat(channel.batches).hasSize(1);
+        assertThat(channel.batches.getFirst()).hasSize(6);
+    }
+
+    @Test
+    void 알림이_끊이지_않아도_최대_지연이_지나면_발송한다() throws InterruptedException {
+        dispatcher = start(300, 500);
+
+        long startedAt = System.nanoTime();
+        int published = 0;
+        while (System.nanoTime() - startedAt < 1_200_000_000L) {
+            dispatcher.publish(event(published++));
+            Thread.sleep(100);
+        }
+
+        int total = published;
+        await().until(() -> channel.batches.stream().mapToInt(List::size).sum() == total);
+        assertThat(channel.batches.size()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void 발송에_실패하면_재시도한다() {
+        channel.failuresLeft = 2;
+        dispatcher = start(50, 1_000);
+
+        dispatcher.publish(event(1));
+
+        await().until(() -> channel.batches.size() == 1);
+        assertThat(channel.attempts).isEqualTo(3);
+    }
+
+    private AlertDispatcher start(long windowMillis, long maxDelayMillis) {
+        AlertDispatcher created = new AlertDispatcher(List.of(channel));
+        ReflectionTestUtils.setField(created, "queueCapacity", 100);
+        ReflectionTestUtils.setField(created, "coalesceWindowMillis", windowMillis);
+        ReflectionTestUtils.setField(created, "coalesceMaxDelayMillis", maxDelayMillis);
+        ReflectionTestUtils.setField(created, "maxAttempts", 4);
+        ReflectionTestUtils.setField(created, "initialBackoffMillis", 10L);
+        ReflectionTestUtils.setField(created, "channelWorkers", 1);
+        ReflectionTestUtils.setField(created, "channelQueueCapacity", 10);
+        created.start();
+        return created;
+    }
+
+    static AlertEvent event(long projectId) {
+        return new AlertEvent(projectId, "project-" + projectId, "https://example.com/" + projectId,
+                200, 503, null, LocalDateTime.now());
+    }
+
+    private static final class RecordingChannel implements NotificationChannel {
+        private final List<List<AlertEvent>> batches = new CopyOnWriteArrayList<>();
+        private volatile int failuresLeft;
+        private volatile int attempts;
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public void send(List<AlertEvent> events) {
+            attempts++;
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IllegalStateException("일시적 실패");
+            }
+            batches.add(events);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.aura.assistant.notification;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 SMTP 서버(GreenMail)로 메일 채널의 실제 발송 내용을 확인합니다.
+ */
+class EmailChannelTest {
+
+    @RegisterExtension
+    static final GreenMailExtension smtp = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+
+    @Test
+    void 알림_메일을_수신자_모두에게_보낸다() throws Exception {
+        EmailChannel channel = channel(mailSender());
+
+        channel.send(List.of(AlertDispatcherTest.event(1), AlertDispatcherTest.event(2)));
+
+        assertThat(smtp.waitForIncomingEmail(5000, 2)).isTrue();
+        MimeMessage[] messages = smtp.getReceivedMessages();
+        assertThat(messages).hasSize(2);
+        assertThat(messages[0].getSubject()).isEqualTo("[Aura3D] 상태 변화 2건 (장애 2건 / 복구 0건)");
+        assertThat((String) messages[0].getContent()).contains("project-1", "project-2");
+    }
+
+    @Test
+    void 메일_설정이_없으면_꺼진다() {
+        assertThat(channel(null).isEnabled()).isFalse();
+        assertThat(channel(mailSender()).isEnabled()).isTrue();
+    }
+
+    private static EmailChannel channel(JavaMailSender mailSender) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        if (mailSender != null) beanFactory.registerSingleton("mailSender", mailSender);
+
+        EmailChannel channel = new EmailChannel(beanFactory.getBeanProvider(JavaMailSender.class));
+        ReflectionTestUtils.setField(channel, "recipients", new String[]{"ops@aura.test", "dev@aura.test"});
+        ReflectionTestUtils.setField(channel, "from", "aura3d@aura.test");
+        return channel;
+    }
+
+    private static JavaMailSender mailSender() {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("127.0.0.1");
+        sender.setPort(smtp.getSmtp().getPort());
+        sender.setDefaultEncoding("UTF-8");
+        return sender;
+    }
+}
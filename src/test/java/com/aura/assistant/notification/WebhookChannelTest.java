@@ -0,0 +1,78 @@
+package com.aura.assistant.notification;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 HTTP 스텁 서버로 웹훅 요청 내용과 실패 처리를 확인합니다.
+ */
+class WebhookChannelTest {
+
+    private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    private HttpServer server;
+    private volatile int responseStatus = 204;
+    private WebhookChannel channel;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/hook", exchange -> {
+            received.add(new String(exchange.getRequestBody().readAllBytes()));
+            exchange.sendResponseHeaders(responseStatus, -1);
+            exchange.close();
+        });
+        server.start();
+
+        channel = new WebhookChannel();
+        ReflectionTestUtils.setField(channel, "url",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/hook");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 단건_알림을_JSON으로_보낸다() throws Exception {
+        channel.send(List.of(AlertDispatcherTest.event(1)));
+
+        JsonNode payload = new ObjectMapper().readTree(received.poll(5, TimeUnit.SECONDS));
+        assertThat(payload.get("type").asText()).isEqualTo("alert");
+        assertThat(payload.get("title").asText()).contains("project-1", "장애 감지");
+        assertThat(payload.get("events")).hasSize(1);
+    }
+
+    @Test
+    void 여러_건이면_요약으로_보낸다() throws Exception {
+        channel.send(List.of(AlertDispatcherTest.event(1), AlertDispatcherTest.event(2)));
+
+        JsonNode payload = new ObjectMapper().readTree(received.poll(5, TimeUnit.SECONDS));
+        assertThat(payload.get("type").asText()).isEqualTo("digest");
+        assertThat(payload.get("events")).hasSize(2);
+    }
+
+    @Test
+    void 수신_서버_오류는_예외로_알린다() {
+        responseStatus = 500;
+
+        assertThatThrownBy(() -> channel.send(List.of(AlertDispatcherTest.event(1))))
+                .isInstanceOf(HttpServerErrorException.class);
+    }
+}